@@ -1,6 +1,8 @@
 package com.everypoll.authService.config;
 
 import com.everypoll.authService.security.JwtAuthenticationFilter;
+import com.everypoll.common.config.RateLimitFilter;
+import com.everypoll.common.config.RateLimiter;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -15,9 +17,11 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final RateLimiter rateLimiter;
 
-    public SecurityConfig(JwtAuthenticationFilter jwtAuthenticationFilter) {
+    public SecurityConfig(JwtAuthenticationFilter jwtAuthenticationFilter, RateLimiter rateLimiter) {
         this.jwtAuthenticationFilter = jwtAuthenticationFilter;
+        this.rateLimiter = rateLimiter;
     }
 
     @Bean
@@ -32,7 +36,9 @@ public class SecurityConfig {
                 // 그 외의 모든 요청은 인증된 사용자만 접근 가능
                 .anyRequest().authenticated()
             )
-            .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+            .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+            // 로그인(bcrypt) 반복 시도 제한, 규칙은 rate-limit.rules
+            .addFilterAfter(new RateLimitFilter(rateLimiter), JwtAuthenticationFilter.class);
 
         return http.build();
     }
@@ -26,6 +26,7 @@ import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Component
 public class JwtUtil {
@@ -128,10 +129,16 @@ public class JwtUtil {
                 .parseClaimsJws(token)
                 .getBody();
 
-        Collection<? extends GrantedAuthority> authorities =
-                Arrays.stream(claims.get("roles").toString().split(","))
-                        .map(SimpleGrantedAuthority::new)
-                        .collect(Collectors.toList());
+        // roles는 JSON 배열로 들어오므로 목록의 원소를 그대로 권한으로 씀 (문자열이면 쉼표로 나눔)
+        Object roles = claims.get("roles");
+        Stream<String> roleNames = roles instanceof Collection<?> list
+                ? list.stream().map(String::valueOf)
+                : roles == null ? Stream.empty() : Arrays.stream(roles.toString().split(","));
+        Collection<? extends GrantedAuthority> authorities = roleNames
+                .map(String::trim)
+                .filter(role -> !role.isEmpty())
+                .map(SimpleGrantedAuthority::new)
+                .collect(Collectors.toList());
 
         // userdetail 생성
         UserDetails principal = new User(claims.getSubject(), "", authorities);
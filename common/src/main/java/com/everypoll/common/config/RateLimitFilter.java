@@ -0,0 +1,61 @@
+package com.everypoll.common.config;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * RateLimiter 규칙에 걸리는 요청을 사용자(JWT subject) 또는 클라이언트 IP 단위로 제한하는 필터.
+ * 빈으로 등록하지 않고 각 서비스의 SecurityConfig에서 JWT 필터 뒤에 끼워 넣는다.
+ *   .addFilterAfter(new RateLimitFilter(rateLimiter), JwtAuthenticationFilter.class)
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimiter rateLimiter;
+
+    public RateLimitFilter(RateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RateLimiter.Rule rule = rateLimiter.match(request.getMethod(), request.getRequestURI());
+        if (rule == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long retryAfterNanos = rateLimiter.tryAcquire(rule, clientKey(request));
+        if (retryAfterNanos == 0) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader("Retry-After", String.valueOf(Math.max(1, TimeUnit.NANOSECONDS.toSeconds(retryAfterNanos + 999_999_999))));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getWriter().write("{\"message\":\"Too many requests\"}");
+    }
+
+    // 로그인한 사용자는 사용자 id, 아니면 IP 기준 (동시 연결 수 같은 다른 제한도 같은 키를 씀)
+    // 게이트웨이 뒤에서는 server.forward-headers-strategy=native로 X-Forwarded-For의 실제 클라이언트 IP가 remoteAddr가 됨
+    public static String clientKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated() && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return "user:" + authentication.getName();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,49 @@
+package com.everypoll.common.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 경로별 요청 제한 설정. 각 서비스의 application.properties에서 rate-limit.rules[n].* 로 지정한다.
+ * 예) rate-limit.rules[0].path=/api/auth/login, rate-limit.rules[0].method=POST,
+ *     rate-limit.rules[0].capacity=10, rate-limit.rules[0].refill-per-second=0.2
+ * 0 이하의 값은 GCRA 계산에서 0으로 나누거나 넘치므로 시작할 때 검증해서 막는다.
+ */
+@Getter
+@Setter
+@Component
+@Validated
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    // 이 시간 동안 요청이 없어 가득 찬 버킷은 메모리에서 지움
+    @Positive
+    private long idleTimeoutMs = 600_000;
+
+    @Valid
+    private List<Rule> rules = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Rule {
+        @NotBlank
+        private String path;            // Ant 패턴 (/api/votes/**)
+        private String method;          // 비어 있으면 모든 메서드
+        @Positive
+        private int capacity = 10;      // 한 번에 몰아서 보낼 수 있는 요청 수
+        @Positive
+        private double refillPerSecond = 1; // 초당 채워지는 요청 수
+    }
+}
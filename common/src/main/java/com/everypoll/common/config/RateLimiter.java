@@ -0,0 +1,123 @@
+package com.everypoll.common.config;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 경로 규칙별 토큰 버킷 요청 제한.
+ * 버킷마다 AtomicLong 하나에 "다음 요청이 정상적으로 도착할 시각"(GCRA)만 두고 CAS로 갱신하므로 락이 없다.
+ * 한동안 쓰이지 않은 버킷은 주기적으로 정리한다.
+ */
+@Component
+public class RateLimiter {
+
+    private static final Logger logger = LoggerFactory.getLogger(RateLimiter.class);
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private final RateLimitProperties properties;
+    private List<Rule> rules = List.of();
+
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "rate-limit-sweeper");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public RateLimiter(RateLimitProperties properties) {
+        this.properties = properties;
+    }
+
+    @PostConstruct
+    public void init() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        rules = properties.getRules().stream().map(Rule::new).toList();
+        long sweepMs = Math.max(properties.getIdleTimeoutMs() / 2, 1000);
+        executor.scheduleWithFixedDelay(this::evictIdle, sweepMs, sweepMs, TimeUnit.MILLISECONDS);
+        logger.info("요청 제한 규칙 {}개 적용", rules.size());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // 요청에 맞는 첫 번째 규칙, 없으면 null (제한 없음)
+    public Rule match(String method, String path) {
+        for (Rule rule : rules) {
+            if (rule.matches(method, path)) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 요청 하나를 소비한다. 통과하면 0, 막히면 다시 시도할 수 있을 때까지 남은 나노초를 돌려준다.
+     */
+    public long tryAcquire(Rule rule, String key) {
+        long now = System.nanoTime();
+        AtomicLong arrival = rule.buckets.get(key);
+        if (arrival == null) {
+            arrival = rule.buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+        }
+        while (true) {
+            long current = arrival.get();
+            long next = Math.max(current, now) + rule.emissionIntervalNanos;
+            long overflow = next - now - rule.limitNanos;
+            if (overflow > 0) {
+                return overflow;
+            }
+            if (arrival.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    // 도착 예정 시각이 idle-timeout보다 오래 지난 버킷은 가득 찬 상태와 같으므로 지워도 됨
+    private void evictIdle() {
+        long now = System.nanoTime();
+        long idleNanos = TimeUnit.MILLISECONDS.toNanos(properties.getIdleTimeoutMs());
+        for (Rule rule : rules) {
+            rule.buckets.values().removeIf(arrival -> now - arrival.get() > idleNanos);
+        }
+    }
+
+    public static final class Rule {
+        private final String path;
+        private final String method;
+        private final long emissionIntervalNanos;
+        // 버스트 허용치 + 한 칸 (capacity개까지는 한 번에 통과)
+        private final long limitNanos;
+        private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+
+        private Rule(RateLimitProperties.Rule rule) {
+            this.path = rule.getPath();
+            this.method = rule.getMethod();
+            this.emissionIntervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / rule.getRefillPerSecond());
+            this.limitNanos = emissionIntervalNanos * Math.max(rule.getCapacity(), 1);
+        }
+
+        public String getPath() {
+            return path;
+        }
+
+        private boolean matches(String requestMethod, String requestPath) {
+            return (method == null || method.isEmpty() || method.equalsIgnoreCase(requestMethod))
+                    && PATH_MATCHER.match(path, requestPath);
+        }
+    }
+}
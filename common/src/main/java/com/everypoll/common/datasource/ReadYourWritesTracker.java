@@ -0,0 +1,99 @@
+package com.everypoll.common.datasource;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 최근에 쓰기를 커밋한 클라이언트 표시.
+ * 커밋 시각(epoch ms)을 응답 쿠키와 헤더로 클라이언트에 돌려주고, 이후 요청이 그 값을 다시 보내면 stickyPrimaryMs 동안 읽기를 primary로 보낸다.
+ * 서버 메모리에 상태를 두지 않으므로 서비스 인스턴스가 여러 개여도 요청이 어느 인스턴스로 가든 같은 판단을 한다 (인스턴스 간 시계 차이는 기간보다 충분히 작다고 봄).
+ */
+public class ReadYourWritesTracker {
+
+    public static final String COOKIE_NAME = "last_write_at";
+    // 쿠키를 쓰지 않는 클라이언트는 응답의 이 헤더 값을 다음 요청에 그대로 실어 보냄
+    public static final String HEADER_NAME = "X-Last-Write-At";
+    // 같은 요청 안에서 커밋 뒤에 읽는 경우
+    private static final String REQUEST_ATTRIBUTE = ReadYourWritesTracker.class.getName() + ".lastWriteAt";
+
+    private final long stickyMs;
+    private final LongSupplier clock;
+
+    public ReadYourWritesTracker(long stickyPrimaryMs) {
+        this(stickyPrimaryMs, System::currentTimeMillis);
+    }
+
+    ReadYourWritesTracker(long stickyPrimaryMs, LongSupplier clock) {
+        this.stickyMs = stickyPrimaryMs;
+        this.clock = clock;
+    }
+
+    // 현재 요청의 응답에 커밋 시각을 실음, 요청 밖(Kafka 리스너, 스케줄러 등)의 쓰기는 표시하지 않음
+    public void recordWrite() {
+        ServletRequestAttributes attributes = currentRequest();
+        if (stickyMs <= 0 || attributes == null) {
+            return;
+        }
+        long now = clock.getAsLong();
+        attributes.getRequest().setAttribute(REQUEST_ATTRIBUTE, now);
+
+        HttpServletResponse response = attributes.getResponse();
+        if (response != null && !response.isCommitted()) {
+            Cookie cookie = new Cookie(COOKIE_NAME, Long.toString(now));
+            cookie.setPath("/");
+            cookie.setHttpOnly(true);
+            cookie.setMaxAge((int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(stickyMs + 999)));
+            response.addCookie(cookie);
+            response.setHeader(HEADER_NAME, Long.toString(now));
+        }
+    }
+
+    // 현재 요청이 기간 안에 쓰기를 커밋한 클라이언트의 것인지
+    public boolean isSticky() {
+        ServletRequestAttributes attributes = currentRequest();
+        if (stickyMs <= 0 || attributes == null) {
+            return false;
+        }
+        long lastWriteAt = lastWriteAt(attributes.getRequest());
+        if (lastWriteAt <= 0) {
+            return false;
+        }
+        long elapsed = clock.getAsLong() - lastWriteAt;
+        // 기간보다 먼 미래 시각(조작된 값)은 무시해 primary에 계속 고정되지 않게 함
+        return elapsed < stickyMs && elapsed > -stickyMs;
+    }
+
+    private static long lastWriteAt(HttpServletRequest request) {
+        if (request.getAttribute(REQUEST_ATTRIBUTE) instanceof Long recorded) {
+            return recorded;
+        }
+        String value = request.getHeader(HEADER_NAME);
+        if (value == null && request.getCookies() != null) {
+            for (Cookie cookie : request.getCookies()) {
+                if (COOKIE_NAME.equals(cookie.getName())) {
+                    value = cookie.getValue();
+                    break;
+                }
+            }
+        }
+        if (value == null) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static ServletRequestAttributes currentRequest() {
+        return RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes ? attributes : null;
+    }
+}
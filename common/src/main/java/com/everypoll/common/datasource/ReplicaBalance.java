@@ -0,0 +1,9 @@
+package com.everypoll.common.datasource;
+
+/**
+ * 읽기 전용 트랜잭션을 어느 replica로 보낼지 고르는 방식.
+ */
+public enum ReplicaBalance {
+    ROUND_ROBIN,        // 차례대로
+    LEAST_CONNECTIONS   // 사용 중인 연결이 가장 적은 replica (같으면 차례대로)
+}
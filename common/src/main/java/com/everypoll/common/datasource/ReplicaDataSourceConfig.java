@@ -0,0 +1,76 @@
+package com.everypoll.common.datasource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * datasource.replica.enabled=true일 때 spring.datasource(primary)와 replica 풀들을 묶은 라우팅 DataSource를 등록한다.
+ * 꺼져 있으면 이 설정은 무시되고 Spring Boot 기본 DataSource 하나만 쓴다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.replica", name = "enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaDataSourceConfig.class);
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(ReplicaDataSourceProperties replicaProperties) {
+        return new ReadYourWritesTracker(replicaProperties.getStickyPrimaryMs());
+    }
+
+    // 풀 종료를 위해 따로 빈으로 등록 (close)
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(DataSourceProperties dataSourceProperties,
+            ReplicaDataSourceProperties replicaProperties, ReadYourWritesTracker readYourWritesTracker, Environment environment) {
+        Binder binder = Binder.get(environment);
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        bindHikari(binder, primary);
+        primary.setPoolName("primary");
+
+        List<DataSource> replicas = new ArrayList<>();
+        for (String url : replicaProperties.getUrls()) {
+            HikariDataSource replica = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .driverClassName(dataSourceProperties.determineDriverClassName())
+                    .url(url)
+                    .username(replicaProperties.getUsername() != null ? replicaProperties.getUsername() : dataSourceProperties.determineUsername())
+                    .password(replicaProperties.getPassword() != null ? replicaProperties.getPassword() : dataSourceProperties.determinePassword())
+                    .build();
+            bindHikari(binder, replica);
+            replica.setPoolName("replica-" + replicas.size());
+            replica.setReadOnly(true);
+            replicas.add(replica);
+        }
+        logger.info("읽기 전용 트랜잭션을 replica {}개로 분산 ({})", replicas.size(), replicaProperties.getBalance());
+        return new ReplicaRoutingDataSource(primary, replicas, replicaProperties.getBalance(), readYourWritesTracker);
+    }
+
+    // 기본 DataSource 자동 설정을 대신하므로 spring.datasource.hikari.*(풀 크기, 타임아웃 등)를 직접 적용, replica 풀도 같은 값을 씀
+    private static void bindHikari(Binder binder, HikariDataSource dataSource) {
+        binder.bind("spring.datasource.hikari", Bindable.ofInstance(dataSource));
+    }
+
+    // JPA/JdbcTemplate이 쓰는 DataSource, 첫 SQL 실행 시점에 readOnly 여부를 보고 연결을 가져옴
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+}
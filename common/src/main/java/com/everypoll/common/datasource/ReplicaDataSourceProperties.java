@@ -0,0 +1,33 @@
+package com.everypoll.common.datasource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 읽기 replica 설정. 각 서비스의 application.properties에서 datasource.replica.* 로 지정한다.
+ * 예) datasource.replica.enabled=true, datasource.replica.urls=jdbc:mysql://replica1/db,jdbc:mysql://replica2/db
+ * 계정과 드라이버는 지정하지 않으면 spring.datasource.* 값을 그대로 쓴다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "datasource.replica")
+public class ReplicaDataSourceProperties {
+
+    private boolean enabled = false;
+
+    private List<String> urls = new ArrayList<>();
+    private String username;
+    private String password;
+
+    private ReplicaBalance balance = ReplicaBalance.ROUND_ROBIN;
+
+    // 클라이언트가 쓰기 트랜잭션을 커밋한 뒤 이 시간 동안은 그 클라이언트의 읽기도 primary로 (replica 복제 지연 대비, 쿠키로 전달)
+    private long stickyPrimaryMs = 5000;
+}
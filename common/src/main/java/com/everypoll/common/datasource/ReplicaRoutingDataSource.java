@@ -0,0 +1,135 @@
+package com.everypoll.common.datasource;
+
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+/**
+ * 읽기 전용 트랜잭션은 replica로, 나머지는 primary로 보내는 DataSource.
+ * 트랜잭션의 readOnly 여부는 트랜잭션이 시작된 뒤에야 알 수 있으므로 LazyConnectionDataSourceProxy로 감싸서
+ * 첫 SQL을 실행할 때 연결을 고르게 해야 한다.
+ * 쓰기 트랜잭션을 커밋한 클라이언트는 잠시 동안 읽기도 primary로 보내고(ReadYourWritesTracker), replica 연결에 실패하면 primary에서 읽는다.
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    private final DataSource primary;
+    private final List<DataSource> replicas;
+    private final ReplicaBalance balance;
+    private final ReadYourWritesTracker tracker;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas, ReplicaBalance balance, ReadYourWritesTracker tracker) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.balance = balance;
+        this.tracker = tracker;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        DataSource replica = route();
+        if (replica == null) {
+            return primary.getConnection();
+        }
+        try {
+            return replica.getConnection();
+        } catch (SQLException e) {
+            logger.warn("replica 연결 실패, primary에서 읽습니다: {}", e.getMessage());
+            return primary.getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        DataSource replica = route();
+        if (replica == null) {
+            return primary.getConnection(username, password);
+        }
+        try {
+            return replica.getConnection(username, password);
+        } catch (SQLException e) {
+            logger.warn("replica 연결 실패, primary에서 읽습니다: {}", e.getMessage());
+            return primary.getConnection(username, password);
+        }
+    }
+
+    @Override
+    public void close() {
+        closeQuietly(primary);
+        replicas.forEach(ReplicaRoutingDataSource::closeQuietly);
+    }
+
+    // replica를 골라 반환, primary로 보내야 하면 null
+    private DataSource route() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            // 커밋된 뒤부터 이 클라이언트의 읽기를 primary에 고정
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        tracker.recordWrite();
+                    }
+                });
+            }
+            return null;
+        }
+        if (replicas.isEmpty() || tracker.isSticky()) {
+            return null;
+        }
+        return balance == ReplicaBalance.LEAST_CONNECTIONS ? leastConnections() : roundRobin();
+    }
+
+    private DataSource roundRobin() {
+        return replicas.get(Math.floorMod(next.getAndIncrement(), replicas.size()));
+    }
+
+    // 사용 중인 연결 수가 같으면 차례대로 돌아가며 고름
+    private DataSource leastConnections() {
+        int start = Math.floorMod(next.getAndIncrement(), replicas.size());
+        DataSource best = null;
+        int bestActive = Integer.MAX_VALUE;
+        for (int i = 0; i < replicas.size(); i++) {
+            DataSource replica = replicas.get((start + i) % replicas.size());
+            int active = activeConnections(replica);
+            if (active < bestActive) {
+                best = replica;
+                bestActive = active;
+            }
+        }
+        return best;
+    }
+
+    // Hikari 풀이 아니거나 아직 풀이 만들어지지 않았으면 0
+    private static int activeConnections(DataSource dataSource) {
+        if (dataSource instanceof HikariDataSource hikari) {
+            HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+            return pool == null ? 0 : pool.getActiveConnections();
+        }
+        return 0;
+    }
+
+    private static void closeQuietly(DataSource dataSource) {
+        if (dataSource instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                logger.warn("DataSource 종료 실패: {}", e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.everypoll.common.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// poll-snapshot-topic(압축 토픽)의 값, key는 pollId이고 삭제된 poll은 값이 null인 tombstone으로 보냄
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PollSnapshotEvent {
+    private Long pollId;
+    private String createdBy;
+    private List<Long> optionIds;
+    // pollService 검색 색인용 (voteService는 사용하지 않음)
+    private String question;
+    private List<String> optionTexts;
+}
@@ -0,0 +1,17 @@
+package com.everypoll.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class VoteCastEvent {
+    private Long pollId;
+    private Long optionId;
+    private Long userId;
+    private long votedAt; // epoch millis
+}
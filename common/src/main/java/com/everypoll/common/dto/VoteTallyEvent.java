@@ -0,0 +1,20 @@
+package com.everypoll.common.dto;
+
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 한 번의 batch에서 저장된 투표를 poll 단위로 합친 증분 (optionId -> 증가량)
+// totals는 증분을 쓴 노드 기준의 반영 후 선택지별 전체 투표 수 (항상 채워서 보냄)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class VoteTallyEvent {
+    private Long pollId;
+    private Map<Long, Long> deltas;
+    private Map<Long, Long> totals;
+}
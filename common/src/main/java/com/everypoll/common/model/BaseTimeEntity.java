@@ -21,4 +21,9 @@ public abstract class BaseTimeEntity {
 
     @LastModifiedDate 
     private LocalDateTime updatedAt;
+
+    // 자기 컬럼은 그대로지만 연관 엔티티가 바뀐 경우 수정 시각을 갱신 (ETag 등 버전 비교용)
+    protected void touch() {
+        this.updatedAt = LocalDateTime.now();
+    }
 }
@@ -0,0 +1,43 @@
+package com.everypoll.common.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class JwtUtilTest {
+
+    private final JwtUtil jwtUtil = new JwtUtil();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(jwtUtil, "secret", "0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcdef");
+        ReflectionTestUtils.setField(jwtUtil, "accessExpirationMs", 60_000L);
+        ReflectionTestUtils.setField(jwtUtil, "refreshExpirationMs", 60_000L);
+        jwtUtil.init();
+    }
+
+    // roles 배열의 원소가 괄호 없이 그대로 권한이 되어야 hasRole 검사가 맞음
+    @Test
+    void readsRolesFromClaimList() {
+        String token = jwtUtil.generateAccessToken("7", List.of("ROLE_USER", "ROLE_ADMIN"));
+
+        Authentication authentication = jwtUtil.getAuthentication(token);
+
+        assertThat(authentication.getName()).isEqualTo("7");
+        assertThat(authentication.getAuthorities()).extracting(GrantedAuthority::getAuthority)
+                .containsExactly("ROLE_USER", "ROLE_ADMIN");
+    }
+
+    @Test
+    void tokenWithoutRolesHasNoAuthorities() {
+        String token = jwtUtil.generateRefreshToken("7");
+
+        assertThat(jwtUtil.getAuthentication(token).getAuthorities()).isEmpty();
+    }
+}
@@ -0,0 +1,108 @@
+package com.everypoll.common.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+
+class RateLimiterTest {
+
+    private RateLimiter rateLimiter;
+
+    @AfterEach
+    void tearDown() {
+        if (rateLimiter != null) {
+            rateLimiter.shutdown();
+        }
+    }
+
+    @Test
+    void matchesFirstRuleByMethodAndPath() {
+        rateLimiter = rateLimiter(rule("/api/votes", "POST", 1, 1), rule("/api/**", null, 1, 1));
+
+        assertThat(rateLimiter.match("POST", "/api/votes").getPath()).isEqualTo("/api/votes");
+        assertThat(rateLimiter.match("GET", "/api/votes").getPath()).isEqualTo("/api/**");
+        assertThat(rateLimiter.match("GET", "/health")).isNull();
+    }
+
+    @Test
+    void allowsBurstThenBlocksUntilRefill() {
+        rateLimiter = rateLimiter(rule("/api/**", null, 3, 1));
+        RateLimiter.Rule rule = rateLimiter.match("GET", "/api/polls");
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(rateLimiter.tryAcquire(rule, "ip:1")).isZero();
+        }
+        // 초당 1개씩 채워지므로 다음 요청은 1초 이내에 다시 시도할 수 있음
+        assertThat(rateLimiter.tryAcquire(rule, "ip:1")).isPositive().isLessThanOrEqualTo(TimeUnit.SECONDS.toNanos(1));
+        // 버킷은 키마다 따로
+        assertThat(rateLimiter.tryAcquire(rule, "ip:2")).isZero();
+    }
+
+    @Test
+    void concurrentRequestsNeverExceedCapacity() throws Exception {
+        // 테스트 동안 사실상 채워지지 않는 속도
+        rateLimiter = rateLimiter(rule("/api/**", null, 50, 0.001));
+        RateLimiter.Rule rule = rateLimiter.match("POST", "/api/votes");
+        AtomicInteger allowed = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService threads = Executors.newFixedThreadPool(8);
+        for (int t = 0; t < 8; t++) {
+            threads.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < 100; i++) {
+                    if (rateLimiter.tryAcquire(rule, "user:1") == 0) {
+                        allowed.incrementAndGet();
+                    }
+                }
+            });
+        }
+        start.countDown();
+        threads.shutdown();
+        assertThat(threads.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(allowed.get()).isEqualTo(50);
+    }
+
+    @Test
+    void rejectsNonPositiveLimits() {
+        Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setRules(List.of(rule("/api/**", null, 0, 0)));
+
+        assertThat(validator.validate(properties))
+                .extracting(violation -> violation.getPropertyPath().toString())
+                .containsExactlyInAnyOrder("rules[0].capacity", "rules[0].refillPerSecond");
+    }
+
+    private static RateLimiter rateLimiter(RateLimitProperties.Rule... rules) {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setRules(List.of(rules));
+        RateLimiter rateLimiter = new RateLimiter(properties);
+        rateLimiter.init();
+        return rateLimiter;
+    }
+
+    private static RateLimitProperties.Rule rule(String path, String method, int capacity, double refillPerSecond) {
+        RateLimitProperties.Rule rule = new RateLimitProperties.Rule();
+        rule.setPath(path);
+        rule.setMethod(method);
+        rule.setCapacity(capacity);
+        rule.setRefillPerSecond(refillPerSecond);
+        return rule;
+    }
+}
@@ -0,0 +1,253 @@
+package com.everypoll.common.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.UserCredentialsDataSourceAdapter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import jakarta.servlet.http.Cookie;
+
+// H2 메모리 DB 세 개(primary, replica 두 개)로 라우팅 확인, 각 DB의 server 테이블에 자기 이름이 들어 있음
+class ReplicaRoutingDataSourceTest {
+
+    private static final long STICKY_MS = 5000;
+
+    private HikariDataSource primary;
+    private HikariDataSource replica0;
+    private HikariDataSource replica1;
+    private final AtomicLong clock = new AtomicLong(1_700_000_000_000L);
+
+    @BeforeEach
+    void setUp() {
+        primary = database("primary");
+        replica0 = database("replica0");
+        replica1 = database("replica1");
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        for (HikariDataSource dataSource : List.of(primary, replica0, replica1)) {
+            new JdbcTemplate(dataSource).execute("drop all objects");
+            dataSource.close();
+        }
+    }
+
+    @Test
+    void readOnlyTransactionsGoToReplicasInTurn() {
+        Routing routing = routing(List.of(replica0, replica1), ReplicaBalance.ROUND_ROBIN);
+
+        assertThat(routing.read()).isEqualTo("replica0");
+        assertThat(routing.read()).isEqualTo("replica1");
+        assertThat(routing.read()).isEqualTo("replica0");
+    }
+
+    @Test
+    void writeTransactionsAndNonTransactionalCallsGoToPrimary() {
+        Routing routing = routing(List.of(replica0, replica1), ReplicaBalance.ROUND_ROBIN);
+
+        routing.write("insert into item values (1)");
+
+        assertThat(count(primary)).isEqualTo(1);
+        assertThat(count(replica0)).isZero();
+        assertThat(count(replica1)).isZero();
+        assertThat(routing.jdbcTemplate.queryForObject("select name from server", String.class)).isEqualTo("primary");
+    }
+
+    @Test
+    void leastConnectionsSkipsBusyReplica() throws SQLException {
+        Routing routing = routing(List.of(replica0, replica1), ReplicaBalance.LEAST_CONNECTIONS);
+
+        try (Connection busy = replica0.getConnection()) {
+            assertThat(routing.read()).isEqualTo("replica1");
+            assertThat(routing.read()).isEqualTo("replica1");
+        }
+        assertThat(List.of(routing.read(), routing.read())).containsExactlyInAnyOrder("replica0", "replica1");
+    }
+
+    // 커밋 시각이 쿠키로 클라이언트에 가므로, 다음 요청이 다른 인스턴스로 가도 primary에서 읽음
+    @Test
+    void clientReadsOwnWritesFromPrimaryOnAnyInstanceUntilWindowEnds() {
+        Routing writer = routing(List.of(replica0), ReplicaBalance.ROUND_ROBIN);
+        Routing otherInstance = routing(List.of(replica0), ReplicaBalance.ROUND_ROBIN);
+
+        MockHttpServletResponse response = request(new MockHttpServletRequest());
+        writer.write("insert into item values (1)");
+        // 같은 요청 안의 읽기도 primary
+        assertThat(writer.read()).isEqualTo("primary");
+        Cookie lastWrite = response.getCookie(ReadYourWritesTracker.COOKIE_NAME);
+        assertThat(lastWrite).isNotNull();
+        assertThat(response.getHeader(ReadYourWritesTracker.HEADER_NAME)).isEqualTo(lastWrite.getValue());
+
+        request(withCookie(lastWrite));
+        assertThat(otherInstance.read()).isEqualTo("primary");
+
+        // 쿠키가 없는 다른 클라이언트는 계속 replica
+        request(new MockHttpServletRequest());
+        assertThat(otherInstance.read()).isEqualTo("replica0");
+
+        clock.addAndGet(STICKY_MS);
+        request(withCookie(lastWrite));
+        assertThat(otherInstance.read()).isEqualTo("replica0");
+    }
+
+    @Test
+    void headerCarriesLastWriteWithoutCookies() {
+        Routing routing = routing(List.of(replica0), ReplicaBalance.ROUND_ROBIN);
+        MockHttpServletResponse response = request(new MockHttpServletRequest());
+        routing.write("insert into item values (1)");
+
+        MockHttpServletRequest next = new MockHttpServletRequest();
+        next.addHeader(ReadYourWritesTracker.HEADER_NAME, response.getHeader(ReadYourWritesTracker.HEADER_NAME));
+        request(next);
+        assertThat(routing.read()).isEqualTo("primary");
+    }
+
+    // 먼 미래 시각을 보내 primary에 계속 붙어 있을 수 없음
+    @Test
+    void ignoresLastWriteFarInFuture() {
+        Routing routing = routing(List.of(replica0), ReplicaBalance.ROUND_ROBIN);
+
+        request(withCookie(new Cookie(ReadYourWritesTracker.COOKIE_NAME, Long.toString(clock.get() + STICKY_MS * 100))));
+        assertThat(routing.read()).isEqualTo("replica0");
+        request(withCookie(new Cookie(ReadYourWritesTracker.COOKIE_NAME, "not-a-number")));
+        assertThat(routing.read()).isEqualTo("replica0");
+    }
+
+    @Test
+    void rolledBackWriteDoesNotPinClientToPrimary() {
+        Routing routing = routing(List.of(replica0), ReplicaBalance.ROUND_ROBIN);
+
+        MockHttpServletResponse response = request(new MockHttpServletRequest());
+        routing.writeTransaction.executeWithoutResult(status -> {
+            routing.jdbcTemplate.update("insert into item values (1)");
+            status.setRollbackOnly();
+        });
+
+        assertThat(response.getCookie(ReadYourWritesTracker.COOKIE_NAME)).isNull();
+        assertThat(routing.read()).isEqualTo("replica0");
+    }
+
+    // 요청 밖(Kafka 리스너 등)의 쓰기는 표시할 곳이 없으므로 무시
+    @Test
+    void writesOutsideRequestsAreNotTracked() {
+        Routing routing = routing(List.of(replica0), ReplicaBalance.ROUND_ROBIN);
+
+        routing.write("insert into item values (1)");
+        assertThat(routing.read()).isEqualTo("replica0");
+    }
+
+    @Test
+    void unavailableReplicaFallsBackToPrimary() {
+        DataSource down = new DelegatingDataSource(replica0) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                throw new SQLException("replica down");
+            }
+        };
+        Routing routing = routing(List.of(down), ReplicaBalance.ROUND_ROBIN);
+
+        assertThat(routing.read()).isEqualTo("primary");
+    }
+
+    @Test
+    void unavailableReplicaFallsBackToPrimaryWithCredentials() {
+        // Hikari는 사용자/비밀번호 지정 연결을 지원하지 않으므로 기본 연결로 대신함
+        DataSource credentialPrimary = new DelegatingDataSource(primary) {
+            @Override
+            public Connection getConnection(String username, String password) throws SQLException {
+                return getConnection();
+            }
+        };
+        DataSource down = new DelegatingDataSource(replica0) {
+            @Override
+            public Connection getConnection(String username, String password) throws SQLException {
+                throw new SQLException("replica down");
+            }
+        };
+        ReadYourWritesTracker tracker = new ReadYourWritesTracker(STICKY_MS, clock::get);
+        UserCredentialsDataSourceAdapter credentials = new UserCredentialsDataSourceAdapter();
+        credentials.setTargetDataSource(
+                new ReplicaRoutingDataSource(credentialPrimary, List.of(down), ReplicaBalance.ROUND_ROBIN, tracker));
+        credentials.setUsername("reader");
+        credentials.setPassword("secret");
+
+        assertThat(new Routing(new LazyConnectionDataSourceProxy(credentials)).read()).isEqualTo("primary");
+    }
+
+    private Routing routing(List<DataSource> replicas, ReplicaBalance balance) {
+        ReadYourWritesTracker tracker = new ReadYourWritesTracker(STICKY_MS, clock::get);
+        return new Routing(new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(primary, replicas, balance, tracker)));
+    }
+
+    private static HikariDataSource database(String name) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+        dataSource.setPoolName(name);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("create table server (name varchar(20))");
+        jdbcTemplate.execute("create table item (id int)");
+        jdbcTemplate.update("insert into server values (?)", name);
+        return dataSource;
+    }
+
+    private static int count(DataSource dataSource) {
+        return new JdbcTemplate(dataSource).queryForObject("select count(*) from item", Integer.class);
+    }
+
+    // 이후 호출을 이 요청 안에서 한 것으로 만들고 응답을 돌려줌
+    private static MockHttpServletResponse request(MockHttpServletRequest request) {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, response));
+        return response;
+    }
+
+    private static MockHttpServletRequest withCookie(Cookie cookie) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(cookie);
+        return request;
+    }
+
+    private static class Routing {
+        private final JdbcTemplate jdbcTemplate;
+        private final TransactionTemplate readOnlyTransaction;
+        private final TransactionTemplate writeTransaction;
+
+        Routing(DataSource dataSource) {
+            DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+            this.jdbcTemplate = new JdbcTemplate(dataSource);
+            this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+            this.readOnlyTransaction.setReadOnly(true);
+            this.writeTransaction = new TransactionTemplate(transactionManager);
+        }
+
+        // 읽기 전용 트랜잭션이 연결된 DB 이름
+        String read() {
+            return readOnlyTransaction.execute(status -> jdbcTemplate.queryForObject("select name from server", String.class));
+        }
+
+        void write(String sql) {
+            writeTransaction.executeWithoutResult(status -> jdbcTemplate.update(sql));
+        }
+    }
+}
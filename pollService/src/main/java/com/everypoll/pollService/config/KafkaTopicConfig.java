@@ -0,0 +1,21 @@
+package com.everypoll.pollService.config;
+
+import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+
+@Configuration
+public class KafkaTopicConfig {
+
+    public static final String POLL_SNAPSHOT_TOPIC = "poll-snapshot-topic";
+
+    // pollId별 마지막 스냅샷만 남는 압축 토픽, 처음부터 읽으면 현재 poll/선택지 전체가 됨
+    @Bean
+    public NewTopic pollSnapshotTopic() {
+        return TopicBuilder.name(POLL_SNAPSHOT_TOPIC)
+                .partitions(3)
+                .compact()
+                .build();
+    }
+}
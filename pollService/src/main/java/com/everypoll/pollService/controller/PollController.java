@@ -1,24 +1,42 @@
 package com.everypoll.pollService.controller;
 
+import com.everypoll.pollService.search.PollSearchIndex;
+import com.everypoll.pollService.service.PollBulkImporter;
 import com.everypoll.pollService.service.PollService;
+import com.everypoll.pollService.service.PollStreamWriter;
 
 import jakarta.validation.Valid;
 
+import com.everypoll.pollService.dto.PollBulkResponse;
 import com.everypoll.pollService.dto.PollCreateRequest;
+import com.everypoll.pollService.dto.PollCursor;
 import com.everypoll.pollService.dto.PollResponse;
+import com.everypoll.pollService.dto.PollSearchHit;
+import com.everypoll.pollService.dto.PollSearchStatsResponse;
+import com.everypoll.pollService.dto.PollSummaryPage;
+import com.everypoll.pollService.dto.PollSummaryResponse;
 import com.everypoll.pollService.dto.PollUpdateRequest;
 
 import lombok.RequiredArgsConstructor;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.util.DigestUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("api/polls")
@@ -26,13 +44,30 @@ import org.springframework.web.bind.annotation.*;
 public class PollController {
 
     private final PollService pollService;
+    private final PollBulkImporter pollBulkImporter;
+    private final PollSearchIndex pollSearchIndex;
+    private final PollStreamWriter pollStreamWriter;
     private static final Logger logger = LoggerFactory.getLogger(PollController.class);
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
 
+    // 최신순 목록, 다음 페이지 커서는 X-Next-Cursor 헤더로 내려줌 (마지막 페이지면 없음)
     @GetMapping
-    public ResponseEntity<List<PollResponse>> getAllPolls() {
-        logger.info("모든 투표 게시글을 가져옵니다.");
-        List<PollResponse> polls = pollService.getAllPolls();
-        return ResponseEntity.ok(polls); // 200 ok
+    public ResponseEntity<List<PollSummaryResponse>> getPolls(@RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int limit, WebRequest webRequest) {
+        logger.info("투표 게시글 목록을 가져옵니다. after: {} limit: {}", after, limit);
+        PollSummaryPage page = pollService.getPolls(after == null ? null : PollCursor.parse(after), limit);
+
+        // 페이지에 담긴 poll과 수정 시각이 그대로면 304 (본문 직렬화/전송 생략)
+        String etag = pageEtag(page.getPolls());
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().eTag(etag);
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor().toString());
+        }
+        return response.body(page.getPolls()); // 200 ok
     }
 
     @PostMapping
@@ -47,6 +82,25 @@ public class PollController {
         return ResponseEntity.created(location).body(pollResponse); // PollResponse 반환
     }
 
+    // 전체 poll을 한 줄에 하나씩 (분석/수집용, 로그인 필요), 목록을 메모리에 모으지 않고 읽는 대로 씀
+    @GetMapping("/stream")
+    public ResponseEntity<StreamingResponseBody> streamPolls() {
+        logger.info("투표 게시글 전체 스트림");
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(pollStreamWriter::write); // 200 ok
+    }
+
+    // PollCreateRequest 배열(또는 줄 단위 JSON)을 읽는 대로 chunk 단위 batch insert, 항목별 결과 반환
+    @PostMapping("/bulk")
+    public ResponseEntity<PollBulkResponse> importPolls(InputStream body, @AuthenticationPrincipal UserDetails userDetails) throws IOException {
+        String currentUsername = userDetails.getUsername();
+        logger.info("투표 게시글 대량 등록 user: {}", currentUsername);
+
+        PollBulkResponse response = pollBulkImporter.importPolls(body, currentUsername);
+        return ResponseEntity.ok(response); // 200 ok, 실패한 항목은 errors에 담김
+    }
+
     @PutMapping("/{pollId}")
     public ResponseEntity<PollResponse> updatePoll(@PathVariable Long pollId, @Valid @RequestBody PollUpdateRequest request, @AuthenticationPrincipal UserDetails userDetails) {
         String currentUsername = userDetails.getUsername();
@@ -57,11 +111,30 @@ public class PollController {
         return ResponseEntity.ok(updatedPoll); // 업데이트 내용 반환
     }
 
+    // 질문/선택지 문구 검색 (글자 bigram, BM25 점수순)
+    @GetMapping("/search")
+    public ResponseEntity<List<PollSearchHit>> searchPolls(@RequestParam String q, @RequestParam(defaultValue = "20") int limit) {
+        logger.info("투표 게시글 검색 q: {}", q);
+        return ResponseEntity.ok(pollSearchIndex.search(q, limit)); // 200 ok
+    }
+
+    // 검색 색인 상태 (poll 수, 단어 수, posting 크기, 지워진 문서 비율)
+    @GetMapping("/search/stats")
+    public ResponseEntity<PollSearchStatsResponse> getSearchStats() {
+        return ResponseEntity.ok(pollSearchIndex.stats());
+    }
+
     @GetMapping("/{pollId}")
-    public ResponseEntity<PollResponse> getPollById(@PathVariable Long pollId) {
+    public ResponseEntity<PollResponse> getPollById(@PathVariable Long pollId, WebRequest webRequest) {
         logger.info("투표 게시글 조회 id: {}", pollId);
         PollResponse pollResponse = pollService.getPollById(pollId);
-        return ResponseEntity.ok(pollResponse); // PollResponse 반환
+
+        // 캐시된 응답의 수정 시각으로 비교하므로 304는 DB를 거치지 않음
+        String etag = pollEtag(pollResponse.getId(), pollResponse.getUpdatedAt());
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).body(pollResponse); // PollResponse 반환
     }
 
     @DeleteMapping("/{pollId}")
@@ -73,4 +146,20 @@ public class PollController {
 
         return ResponseEntity.noContent().build(); // 204 No Content
     }
-}
\ No newline at end of file
+
+    // strong ETag: poll id + 수정 시각(마이크로초, DB 컬럼 정밀도)
+    private static String pollEtag(Long pollId, LocalDateTime updatedAt) {
+        return "\"" + pollId + "-" + version(updatedAt) + "\"";
+    }
+
+    // 목록은 페이지의 (id, 수정 시각) 목록의 해시
+    private static String pageEtag(List<PollSummaryResponse> polls) {
+        StringBuilder versions = new StringBuilder();
+        polls.forEach(poll -> versions.append(poll.getId()).append(':').append(version(poll.getUpdatedAt())).append(','));
+        return "\"" + DigestUtils.md5DigestAsHex(versions.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    private static long version(LocalDateTime updatedAt) {
+        return updatedAt == null ? 0 : ChronoUnit.MICROS.between(LocalDateTime.of(1970, 1, 1, 0, 0), updatedAt);
+    }
+}
@@ -20,4 +20,12 @@ public class OptionResponse {
             .optionText(pollOption.getOptionText())
             .build();
     }
+
+    // PollRepository의 (pollId, optionId, optionText) 행
+    public static OptionResponse of(Object[] row) {
+        return OptionResponse.builder()
+            .id((Long) row[1])
+            .optionText((String) row[2])
+            .build();
+    }
 }
\ No newline at end of file
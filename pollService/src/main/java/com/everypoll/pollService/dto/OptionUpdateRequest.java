@@ -0,0 +1,17 @@
+package com.everypoll.pollService.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class OptionUpdateRequest {
+    // 기존 선택지의 id, 새 선택지는 비워 둠
+    private Long id;
+
+    @NotBlank(message = "선택지 문구는 비어 있을 수 없습니다.")
+    private String optionText;
+}
@@ -0,0 +1,15 @@
+package com.everypoll.pollService.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor(access = AccessLevel.PRIVATE) // 빌더를 통해서만 생성하도록 강제
+public class PollBulkError {
+    // 요청 목록에서의 위치 (0부터)
+    private int index;
+    private String message;
+}
@@ -0,0 +1,18 @@
+package com.everypoll.pollService.dto;
+
+import java.util.List;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor(access = AccessLevel.PRIVATE) // 빌더를 통해서만 생성하도록 강제
+public class PollBulkResponse {
+    private int created;
+    // 요청 순서대로 생성된 poll id, 실패한 항목은 null
+    private List<Long> ids;
+    private List<PollBulkError> errors;
+}
@@ -0,0 +1,39 @@
+package com.everypoll.pollService.dto;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+import com.everypoll.pollService.exception.InvalidCursorException;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 목록 keyset 페이지네이션 위치, "createdAt,id" 형식 (최신순 정렬의 마지막 항목)
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class PollCursor {
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    public static PollCursor of(PollSummaryResponse poll) {
+        return new PollCursor(poll.getCreatedAt(), poll.getId());
+    }
+
+    public static PollCursor parse(String value) {
+        int comma = value.lastIndexOf(',');
+        if (comma < 0) {
+            throw new InvalidCursorException(value);
+        }
+        try {
+            return new PollCursor(LocalDateTime.parse(value.substring(0, comma).trim()), Long.parseLong(value.substring(comma + 1).trim()));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new InvalidCursorException(value);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return createdAt + "," + id;
+    }
+}
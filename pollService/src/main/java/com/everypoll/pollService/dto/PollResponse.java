@@ -19,6 +19,7 @@ public class PollResponse {
     private String question;
     private LocalDateTime createdAt;
     private String createdBy;
+    private LocalDateTime updatedAt;
     private List<OptionResponse> options;
 
     public static PollResponse from(Poll poll) {
@@ -27,9 +28,22 @@ public class PollResponse {
                 .question(poll.getQuestion())
                 .createdAt(poll.getCreatedAt())
                 .createdBy(poll.getCreatedBy())
+                .updatedAt(poll.getUpdatedAt())
                 .options(poll.getOptions().stream()
                         .map(OptionResponse::from)  
                         .collect(Collectors.toList()))
                 .build();
     }
+
+    // PollRepository의 (id, question, createdAt, createdBy, updatedAt) 행과 따로 읽은 선택지로 만듦
+    public static PollResponse of(Object[] row, List<OptionResponse> options) {
+        return PollResponse.builder()
+                .id((Long) row[0])
+                .question((String) row[1])
+                .createdAt((LocalDateTime) row[2])
+                .createdBy((String) row[3])
+                .updatedAt((LocalDateTime) row[4])
+                .options(options)
+                .build();
+    }
 }
\ No newline at end of file
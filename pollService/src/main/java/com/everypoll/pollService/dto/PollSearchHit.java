@@ -0,0 +1,15 @@
+package com.everypoll.pollService.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor(access = AccessLevel.PRIVATE) // 빌더를 통해서만 생성하도록 강제
+public class PollSearchHit {
+    private Long pollId;
+    // BM25 점수, 클수록 관련도가 높음
+    private float score;
+}
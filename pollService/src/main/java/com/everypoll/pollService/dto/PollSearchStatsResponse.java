@@ -0,0 +1,17 @@
+package com.everypoll.pollService.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor(access = AccessLevel.PRIVATE) // 빌더를 통해서만 생성하도록 강제
+public class PollSearchStatsResponse {
+    private boolean ready;
+    private int polls;
+    private int terms;
+    private long postingBytes;
+    private double deletedRatio;
+}
@@ -0,0 +1,17 @@
+package com.everypoll.pollService.dto;
+
+import java.util.List;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor(access = AccessLevel.PRIVATE) // 빌더를 통해서만 생성하도록 강제
+public class PollSummaryPage {
+    private List<PollSummaryResponse> polls;
+    // 마지막 페이지면 null
+    private PollCursor nextCursor;
+}
@@ -0,0 +1,33 @@
+package com.everypoll.pollService.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+// 목록용 요약, 선택지 목록은 상세 조회에서만 내려줌
+@Getter
+@Builder
+@AllArgsConstructor(access = AccessLevel.PRIVATE) // 빌더를 통해서만 생성하도록 강제
+public class PollSummaryResponse {
+    private Long id;
+    private String question;
+    private LocalDateTime createdAt;
+    private String createdBy;
+    private long optionCount;
+    private LocalDateTime updatedAt;
+
+    // PollRepository.findSummaries의 (id, question, createdAt, createdBy, optionCount, updatedAt) 행
+    public static PollSummaryResponse from(Object[] row) {
+        return PollSummaryResponse.builder()
+                .id((Long) row[0])
+                .question((String) row[1])
+                .createdAt((LocalDateTime) row[2])
+                .createdBy((String) row[3])
+                .optionCount((Long) row[4])
+                .updatedAt((LocalDateTime) row[5])
+                .build();
+    }
+}
@@ -3,6 +3,7 @@ package com.everypoll.pollService.dto;
 import java.util.ArrayList;
 import java.util.List;
 
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.Size;
@@ -15,7 +16,9 @@ public class PollUpdateRequest {
     @NotBlank(message = "질문은 비어 있을 수 없습니다.")
     private String question;
 
+    // 기존 선택지는 id로 찾아 문구만 바꾸고, 빠진 선택지는 삭제, id 없는 항목은 새 선택지로 뒤에 추가
+    @Valid
     @NotEmpty(message = "옵션은 비어 있을 수 없습니다.")
     @Size(min = 2, message = "최소 2개 이상의 선택지가 있어야 합니다.") 
-    private List<String> optionTexts = new ArrayList<>();
+    private List<OptionUpdateRequest> options = new ArrayList<>();
 }
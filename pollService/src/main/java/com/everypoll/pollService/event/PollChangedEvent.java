@@ -0,0 +1,18 @@
+package com.everypoll.pollService.event;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 트랜잭션 안에서 발행하면 같은 트랜잭션에서 outbox에 기록되고, relay가 poll-snapshot-topic으로 내보냄 (deleted면 tombstone)
+@Getter
+@AllArgsConstructor
+public class PollChangedEvent {
+    private final Long pollId;
+    private final String createdBy;
+    private final List<Long> optionIds;
+    private final String question;
+    private final List<String> optionTexts;
+    private final boolean deleted;
+}
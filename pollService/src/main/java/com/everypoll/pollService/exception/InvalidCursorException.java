@@ -0,0 +1,11 @@
+package com.everypoll.pollService.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidCursorException extends RuntimeException {
+    public InvalidCursorException(String cursor) {
+        super(String.format("Invalid cursor '%s' (expected '<createdAt>,<id>')", cursor));
+    }
+}
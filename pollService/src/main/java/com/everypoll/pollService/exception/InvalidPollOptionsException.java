@@ -0,0 +1,11 @@
+package com.everypoll.pollService.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidPollOptionsException extends RuntimeException {
+    public InvalidPollOptionsException(Long pollId, String reason) {
+        super(String.format("Invalid options for poll %d: %s", pollId, reason));
+    }
+}
@@ -0,0 +1,11 @@
+package com.everypoll.pollService.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+public class PollStreamLimitException extends RuntimeException {
+    public PollStreamLimitException(int limit) {
+        super(String.format("Too many concurrent poll streams (limit %d), please retry later", limit));
+    }
+}
@@ -0,0 +1,11 @@
+package com.everypoll.pollService.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class SearchIndexUnavailableException extends RuntimeException {
+    public SearchIndexUnavailableException() {
+        super("Search index is still being built, please retry shortly");
+    }
+}
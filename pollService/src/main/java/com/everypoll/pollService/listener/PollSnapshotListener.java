@@ -0,0 +1,53 @@
+package com.everypoll.pollService.listener;
+
+import java.util.Map;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.stereotype.Component;
+
+import com.everypoll.common.dto.PollSnapshotEvent;
+import com.everypoll.pollService.config.KafkaTopicConfig;
+import com.everypoll.pollService.search.PollSearchIndex;
+import com.everypoll.pollService.service.PollDetailCache;
+
+@Component
+public class PollSnapshotListener implements ConsumerSeekAware {
+
+    private static final Logger logger = LoggerFactory.getLogger(PollSnapshotListener.class);
+    private final PollDetailCache pollDetailCache;
+    private final PollSearchIndex pollSearchIndex;
+
+    public PollSnapshotListener(PollDetailCache pollDetailCache, PollSearchIndex pollSearchIndex) {
+        this.pollDetailCache = pollDetailCache;
+        this.pollSearchIndex = pollSearchIndex;
+    }
+
+    // spring-kafka는 파티션의 시작 위치(커밋된 위치, 없으면 latest를 정해 커밋)가 정해진 뒤 이 콜백을 부르므로,
+    // 검색 색인이 여기서부터 DB를 읽으면 읽은 뒤의 변경은 빠짐없이 이 리스너로 들어옴
+    @Override
+    public void onPartitionsAssigned(Map<TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
+        pollSearchIndex.onPartitionsAssigned();
+    }
+
+    // 인스턴스마다 다른 group으로 구독해서 모든 인스턴스가 모든 변경을 받음 (삭제는 value가 null인 tombstone)
+    // group 이름은 인스턴스 id로 고정해서 재시작해도 같은 group을 이어 쓰고 broker에 버려진 group이 쌓이지 않게 함
+    @KafkaListener(topics = KafkaTopicConfig.POLL_SNAPSHOT_TOPIC, groupId = "poll-detail-cache-${poll.instance-id}",
+            properties = "auto.offset.reset=latest")
+    public void handlePollChanged(ConsumerRecord<String, PollSnapshotEvent> record) {
+        logger.debug("poll 변경 반영 poll: {}", record.key());
+        Long pollId = Long.valueOf(record.key());
+        pollDetailCache.invalidate(pollId);
+
+        PollSnapshotEvent snapshot = record.value();
+        if (snapshot == null) {
+            pollSearchIndex.remove(pollId);
+        } else {
+            pollSearchIndex.put(pollId, snapshot.getQuestion(), snapshot.getOptionTexts());
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.everypoll.pollService.listener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.everypoll.common.dto.PollSnapshotEvent;
+import com.everypoll.pollService.event.PollChangedEvent;
+import com.everypoll.pollService.model.OutboxEvent;
+import com.everypoll.pollService.repository.OutboxJdbcRepository;
+import com.everypoll.pollService.service.PollDetailCache;
+import com.everypoll.pollService.service.PollOutboxRelay;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * poll 변경을 같은 트랜잭션 안에서 outbox에 기록한다. 브로커에는 PollOutboxRelay가 따로 보내므로 요청 지연은 DB에만 묶인다.
+ * 한 트랜잭션의 변경은 모아 두었다가 커밋 직전에 한 번의 batch insert로 넣고, 커밋되면 이 인스턴스의 캐시를 비우고 relay를 깨운다.
+ */
+@Component
+public class PollSnapshotPublisher {
+
+    private static final Logger logger = LoggerFactory.getLogger(PollSnapshotPublisher.class);
+    private final OutboxJdbcRepository outboxRepository;
+    private final PollOutboxRelay pollOutboxRelay;
+    private final PollDetailCache pollDetailCache;
+    private final ObjectMapper objectMapper;
+
+    public PollSnapshotPublisher(OutboxJdbcRepository outboxRepository, PollOutboxRelay pollOutboxRelay,
+            PollDetailCache pollDetailCache, ObjectMapper objectMapper) {
+        this.outboxRepository = outboxRepository;
+        this.pollOutboxRelay = pollOutboxRelay;
+        this.pollDetailCache = pollDetailCache;
+        this.objectMapper = objectMapper;
+    }
+
+    // 트랜잭션 안에서 발행된 이벤트를 그 트랜잭션의 outbox batch에 추가
+    @EventListener
+    public void handlePollChanged(PollChangedEvent event) {
+        logger.debug("poll 변경 outbox 기록 poll: {} deleted: {}", event.getPollId(), event.isDeleted());
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            // 트랜잭션 밖에서 발행된 경우 (정상 경로에서는 없음) 바로 기록
+            logger.warn("트랜잭션 밖에서 poll 변경 이벤트 발행 poll: {}", event.getPollId());
+            outboxRepository.insertAll(List.of(toOutbox(event)));
+            pollDetailCache.invalidate(event.getPollId());
+            pollOutboxRelay.wakeUp();
+            return;
+        }
+        PendingOutbox pending = (PendingOutbox) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingOutbox();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.events.add(event);
+    }
+
+    private OutboxEvent toOutbox(PollChangedEvent event) {
+        return OutboxEvent.builder()
+                .messageKey(String.valueOf(event.getPollId()))
+                .payload(event.isDeleted() ? null : toJson(PollSnapshotEvent.builder()
+                        .pollId(event.getPollId())
+                        .createdBy(event.getCreatedBy())
+                        .optionIds(event.getOptionIds())
+                        .question(event.getQuestion())
+                        .optionTexts(event.getOptionTexts())
+                        .build()))
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    private String toJson(PollSnapshotEvent snapshot) {
+        try {
+            return objectMapper.writeValueAsString(snapshot);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize poll snapshot pollId=" + snapshot.getPollId(), e);
+        }
+    }
+
+    // 한 트랜잭션에서 발행된 변경 목록
+    private class PendingOutbox implements TransactionSynchronization {
+        private final List<PollChangedEvent> events = new ArrayList<>();
+
+        // 커밋 직전, 아직 같은 트랜잭션(같은 연결) 안
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            outboxRepository.insertAll(events.stream().map(PollSnapshotPublisher.this::toOutbox).toList());
+        }
+
+        @Override
+        public void afterCommit() {
+            // 이 인스턴스의 캐시는 브로커를 거치지 않고 바로 비움 (다른 인스턴스는 스냅샷을 받고 비움)
+            events.forEach(event -> pollDetailCache.invalidate(event.getPollId()));
+            pollOutboxRelay.wakeUp();
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(PollSnapshotPublisher.this);
+        }
+    }
+}
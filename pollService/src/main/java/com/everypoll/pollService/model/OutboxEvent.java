@@ -0,0 +1,31 @@
+package com.everypoll.pollService.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// poll 변경과 같은 트랜잭션에 기록되는 보낼 메시지, PollOutboxRelay가 보내고 지움 (OutboxJdbcRepository로만 읽고 씀)
+@Entity
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "outbox")
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // Kafka 메시지 key (pollId)
+    @Column(nullable = false)
+    private String messageKey;
+
+    // PollSnapshotEvent JSON, null이면 tombstone
+    @Lob
+    private String payload;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+}
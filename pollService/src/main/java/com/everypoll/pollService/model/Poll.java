@@ -7,9 +7,14 @@ import org.springframework.data.annotation.CreatedBy;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import com.everypoll.common.model.BaseTimeEntity;
+import com.everypoll.pollService.exception.InvalidPollOptionsException;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Entity
 @Getter 
@@ -19,6 +24,10 @@ import java.util.List;
 @EntityListeners(AuditingEntityListener.class) 
 @EqualsAndHashCode(of = "id", callSuper = false)
 @ToString(exclude = {"options"}) 
+@Table(indexes = {
+        // 목록 keyset 페이지네이션 (created_at desc, id desc)
+        @Index(name = "idx_poll_created_id", columnList = "created_at, id")
+    })
 public class Poll extends BaseTimeEntity {
 
     @Id
@@ -43,4 +52,51 @@ public class Poll extends BaseTimeEntity {
     public void updateQuestion(String question) {
         this.question = question;
     }
-}
\ No newline at end of file
+
+    /**
+     * 선택지를 요청 목록에 맞춘다. 기존 선택지는 id(투표 집계 키)로 찾아 문구만 바꾸므로 문구를 고쳐도 투표가 그대로 남고,
+     * 목록에서 빠진 선택지는 지우며 id가 없는 항목은 새 선택지로 추가한다.
+     * 선택지 순서는 id 순이라 바꿀 수 없으므로, 기존 선택지의 순서를 바꾸거나 새 선택지를 기존 선택지 사이에 넣으면 거부한다.
+     *
+     * @param requested id(새 선택지는 null)와 문구만 채운 선택지 목록
+     */
+    public void updateOptions(List<PollOption> requested) {
+        Map<Long, PollOption> existing = new HashMap<>();
+        this.options.forEach(option -> existing.put(option.getId(), option));
+
+        Set<PollOption> kept = new HashSet<>();
+        List<String> added = new ArrayList<>();
+        long lastKeptId = 0;
+        boolean changed = false;
+        for (PollOption option : requested) {
+            if (option.getId() == null) {
+                added.add(option.getOptionText());
+                continue;
+            }
+            PollOption current = existing.get(option.getId());
+            if (current == null) {
+                throw new InvalidPollOptionsException(id, String.format("option %d does not belong to this poll", option.getId()));
+            }
+            if (!kept.add(current)) {
+                throw new InvalidPollOptionsException(id, String.format("option %d is listed more than once", option.getId()));
+            }
+            if (!added.isEmpty() || current.getId() < lastKeptId) {
+                throw new InvalidPollOptionsException(id, "options cannot be reordered, new options go after existing ones");
+            }
+            lastKeptId = current.getId();
+            if (!current.getOptionText().equals(option.getOptionText())) {
+                current.updateOptionText(option.getOptionText());
+                changed = true;
+            }
+        }
+
+        // orphanRemoval로 삭제됨
+        changed |= this.options.retainAll(kept);
+        added.forEach(optionText -> addOption(PollOption.builder().optionText(optionText).build()));
+
+        // 선택지만 바뀌어도 poll의 updatedAt이 바뀌어야 캐시된 응답(ETag)이 갱신됨
+        if (changed || !added.isEmpty()) {
+            touch();
+        }
+    }
+}
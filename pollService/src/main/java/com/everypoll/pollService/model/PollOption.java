@@ -23,4 +23,8 @@ public class PollOption {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "poll_id", nullable = false)
     private Poll poll;
+
+    public void updateOptionText(String optionText) {
+        this.optionText = optionText;
+    }
 }
\ No newline at end of file
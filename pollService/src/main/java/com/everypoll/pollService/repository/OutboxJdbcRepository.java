@@ -0,0 +1,74 @@
+package com.everypoll.pollService.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.everypoll.pollService.model.OutboxEvent;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * outbox 테이블 JDBC 저장소.
+ * 기록은 poll 변경 트랜잭션 안에서 batch로, relay는 앞에서부터 잠그고 읽은 뒤 보낸 행만 id로 한 번에 지운다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OutboxJdbcRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO outbox (message_key, payload, created_at) VALUES (?, ?, ?)";
+
+    // 다른 relay가 잠근 행은 기다리지 않고 건너뜀 (MySQL 8)
+    private static final String CLAIM_SQL =
+            "SELECT id, message_key, payload, created_at FROM outbox ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertAll(List<OutboxEvent> events) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                OutboxEvent event = events.get(i);
+                ps.setString(1, event.getMessageKey());
+                ps.setString(2, event.getPayload());
+                ps.setTimestamp(3, Timestamp.valueOf(event.getCreatedAt()));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return events.size();
+            }
+        });
+    }
+
+    // 가장 오래된 행의 id, 비어 있으면 null
+    public Long findHeadId() {
+        return jdbcTemplate.queryForObject("SELECT MIN(id) FROM outbox", Long.class);
+    }
+
+    // 트랜잭션 안에서 호출해야 하며, 커밋/롤백할 때까지 읽은 행을 잠금
+    public List<OutboxEvent> claimBatch(int limit) {
+        return jdbcTemplate.query(CLAIM_SQL, (rs, rowNum) -> OutboxEvent.builder()
+                .id(rs.getLong(1))
+                .messageKey(rs.getString(2))
+                .payload(rs.getString(3))
+                .createdAt(rs.getTimestamp(4).toLocalDateTime())
+                .build(), limit);
+    }
+
+    // 범위(id <= ?)로 지우면 아직 커밋되지 않은 앞 번호 행까지 지울 수 있으므로 보낸 id만 지움
+    public int deleteAll(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        String placeholders = String.join(",", Collections.nCopies(ids.size(), "?"));
+        return jdbcTemplate.update("DELETE FROM outbox WHERE id IN (" + placeholders + ")", ids.toArray());
+    }
+}
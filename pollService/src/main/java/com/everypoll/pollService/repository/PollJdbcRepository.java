@@ -0,0 +1,100 @@
+package com.everypoll.pollService.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import com.everypoll.pollService.dto.PollCreateRequest;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 대량 등록용 JDBC 저장소.
+ * JPA의 IDENTITY 전략은 insert를 묶지 못하므로 poll/poll_option을 batch로 넣고 생성된 id를 순서대로 돌려받는다.
+ * (MySQL에서는 rewriteBatchedStatements=true로 한 번의 multi-row 문장이 됨)
+ */
+@Repository
+@RequiredArgsConstructor
+public class PollJdbcRepository {
+
+    private static final String INSERT_POLL_SQL =
+            "INSERT INTO poll (question, created_by, created_at, updated_at) VALUES (?, ?, ?, ?)";
+
+    private static final String INSERT_OPTION_SQL =
+            "INSERT INTO poll_option (poll_id, option_text) VALUES (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 요청 순서대로 생성된 poll id
+    public List<Long> insertPolls(List<PollCreateRequest> requests, String createdBy, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        return insertReturningIds(INSERT_POLL_SQL, requests.size(), (ps, i) -> {
+            ps.setString(1, requests.get(i).getQuestion());
+            ps.setString(2, createdBy);
+            ps.setTimestamp(3, timestamp);
+            ps.setTimestamp(4, timestamp);
+        });
+    }
+
+    // poll별 선택지를 한 batch로 넣고, poll마다 생성된 선택지 id 목록을 돌려줌
+    public List<List<Long>> insertOptions(List<Long> pollIds, List<PollCreateRequest> requests) {
+        List<Long> optionPollIds = new ArrayList<>();
+        List<String> optionTexts = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            for (String optionText : requests.get(i).getOptionTexts()) {
+                optionPollIds.add(pollIds.get(i));
+                optionTexts.add(optionText);
+            }
+        }
+
+        List<Long> optionIds = insertReturningIds(INSERT_OPTION_SQL, optionTexts.size(), (ps, i) -> {
+            ps.setLong(1, optionPollIds.get(i));
+            ps.setString(2, optionTexts.get(i));
+        });
+
+        List<List<Long>> grouped = new ArrayList<>(requests.size());
+        int from = 0;
+        for (PollCreateRequest request : requests) {
+            int to = from + request.getOptionTexts().size();
+            grouped.add(optionIds.subList(from, to));
+            from = to;
+        }
+        return grouped;
+    }
+
+    private List<Long> insertReturningIds(String sql, int size, ParameterSetter setter) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(con -> con.prepareStatement(sql, new String[] {"id"}), new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                setter.setValues(ps, i);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return size;
+            }
+        }, keyHolder);
+
+        List<Long> ids = new ArrayList<>(size);
+        for (Map<String, Object> keys : keyHolder.getKeyList()) {
+            ids.add(((Number) keys.values().iterator().next()).longValue());
+        }
+        return ids;
+    }
+
+    @FunctionalInterface
+    private interface ParameterSetter {
+        void setValues(PreparedStatement ps, int i) throws SQLException;
+    }
+}
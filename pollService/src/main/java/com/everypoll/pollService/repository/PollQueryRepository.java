@@ -0,0 +1,95 @@
+package com.everypoll.pollService.repository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.springframework.stereotype.Repository;
+
+import com.everypoll.pollService.dto.OptionResponse;
+import com.everypoll.pollService.dto.PollResponse;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * poll 읽기 경로. poll 컬럼과 선택지를 각각 한 번의 쿼리로 읽어 DTO를 만든다.
+ * 영속성 컨텍스트에 엔티티를 올리지 않고, poll 수와 관계없이 쿼리는 두 번이다 (lazy options로 인한 N+1 없음).
+ */
+@Repository
+@RequiredArgsConstructor
+public class PollQueryRepository {
+
+    // poll 하나당 선택지 수만큼의 행, 같은 poll의 행이 연달아 오도록 id순
+    private static final String SCROLL_QUERY = "select p.id, p.question, p.createdAt, p.createdBy, p.updatedAt, o.id, o.optionText "
+            + "from Poll p left join p.options o order by p.id, o.id";
+
+    private final PollRepository pollRepository;
+    private final EntityManager entityManager;
+
+    public Optional<PollResponse> findById(Long pollId) {
+        List<Object[]> polls = pollRepository.findPollRow(pollId);
+        if (polls.isEmpty()) {
+            return Optional.empty();
+        }
+        List<OptionResponse> options = pollRepository.findOptionRows(List.of(pollId)).stream()
+                .map(OptionResponse::of)
+                .collect(Collectors.toList());
+        return Optional.of(PollResponse.of(polls.get(0), options));
+    }
+
+    public List<PollResponse> findAll() {
+        List<Object[]> polls = pollRepository.findPollRows();
+        Map<Long, List<OptionResponse>> options = groupByPoll(pollRepository.findAllOptionRows());
+        return polls.stream()
+                .map(row -> PollResponse.of(row, options.getOrDefault((Long) row[0], List.of())))
+                .collect(Collectors.toList());
+    }
+
+    // 전체 poll을 DB 커서로 읽으면서 하나씩 넘김, 트랜잭션 안에서 호출해야 함
+    // 힙에는 지금 만들고 있는 poll 하나만 남고, clearEvery개마다 세션을 비움
+    public void scrollAll(int fetchSize, int clearEvery, Consumer<PollResponse> consumer) {
+        Session session = entityManager.unwrap(Session.class);
+        try (ScrollableResults<Object[]> rows = session.createQuery(SCROLL_QUERY, Object[].class)
+                .setReadOnly(true)
+                .setFetchSize(fetchSize)
+                .scroll(ScrollMode.FORWARD_ONLY)) {
+            Object[] current = null;
+            List<OptionResponse> options = new ArrayList<>();
+            int emitted = 0;
+            while (rows.next()) {
+                Object[] row = rows.get();
+                if (current != null && !current[0].equals(row[0])) {
+                    consumer.accept(PollResponse.of(current, options));
+                    options = new ArrayList<>();
+                    if (++emitted % clearEvery == 0) {
+                        session.clear();
+                    }
+                }
+                current = row;
+                // 선택지가 없는 poll은 left join으로 option 컬럼이 null인 행 하나
+                if (row[5] != null) {
+                    options.add(OptionResponse.builder().id((Long) row[5]).optionText((String) row[6]).build());
+                }
+            }
+            if (current != null) {
+                consumer.accept(PollResponse.of(current, options));
+            }
+        }
+    }
+
+    private static Map<Long, List<OptionResponse>> groupByPoll(List<Object[]> rows) {
+        Map<Long, List<OptionResponse>> options = new HashMap<>();
+        for (Object[] row : rows) {
+            options.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add(OptionResponse.of(row));
+        }
+        return options;
+    }
+}
@@ -1,12 +1,59 @@
 package com.everypoll.pollService.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
+import jakarta.persistence.LockModeType;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.everypoll.pollService.model.Poll;
 import com.everypoll.pollService.model.PollOption;
 
 public interface PollRepository extends JpaRepository<Poll, Long> {
     Optional<PollOption> findOptionById(Long optionId);
+
+    // 목록 첫 페이지, 엔티티를 만들지 않고 요약 컬럼만 읽음 (idx_poll_created_id 역순 스캔)
+    @Query("select p.id, p.question, p.createdAt, p.createdBy, (select count(o) from PollOption o where o.poll = p), p.updatedAt "
+            + "from Poll p order by p.createdAt desc, p.id desc")
+    List<Object[]> findSummaries(Pageable pageable);
+
+    // 목록 다음 페이지, (createdAt, id)가 커서보다 앞선 poll부터
+    @Query("select p.id, p.question, p.createdAt, p.createdBy, (select count(o) from PollOption o where o.poll = p), p.updatedAt "
+            + "from Poll p where p.createdAt < :createdAt or (p.createdAt = :createdAt and p.id < :id) "
+            + "order by p.createdAt desc, p.id desc")
+    List<Object[]> findSummariesBefore(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    // 상세/전체 조회용 poll 컬럼 (id, question, createdAt, createdBy, updatedAt), 엔티티를 만들지 않음
+    @Query("select p.id, p.question, p.createdAt, p.createdBy, p.updatedAt from Poll p where p.id = :id")
+    List<Object[]> findPollRow(@Param("id") Long id);
+
+    @Query("select p.id, p.question, p.createdAt, p.createdBy, p.updatedAt from Poll p order by p.id")
+    List<Object[]> findPollRows();
+
+    // 선택지 (pollId, optionId, optionText), poll 여러 개를 한 번의 IN 쿼리로 읽음
+    @Query("select o.poll.id, o.id, o.optionText from PollOption o where o.poll.id in :pollIds order by o.poll.id, o.id")
+    List<Object[]> findOptionRows(@Param("pollIds") Collection<Long> pollIds);
+
+    @Query("select o.poll.id, o.id, o.optionText from PollOption o order by o.poll.id, o.id")
+    List<Object[]> findAllOptionRows();
+
+    @Query("select max(p.id) from Poll p")
+    Long findMaxId();
+
+    // 스냅샷 재발행 트랜잭션이 끝날 때까지 구간의 poll 수정/삭제를 막음 (MySQL: for share)
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("select p from Poll p where p.id > :fromId and p.id <= :toId")
+    List<Poll> lockRange(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    // 스냅샷 재발행/검색 색인용 (pollId, createdBy, optionId, question, optionText) 행, id 구간 단위로 끊어서 읽음
+    @Query("select p.id, p.createdBy, o.id, p.question, o.optionText from Poll p left join p.options o "
+            + "where p.id > :fromId and p.id <= :toId order by p.id")
+    List<Object[]> findSnapshotRows(@Param("fromId") Long fromId, @Param("toId") Long toId);
 }
@@ -0,0 +1,47 @@
+package com.everypoll.pollService.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 글자 bigram 토크나이저. 형태소 분석 없이도 한글의 조사/어미 변화에 걸리지 않고 부분 일치를 찾을 수 있다.
+ * NFKC 정규화 + 소문자 변환 후 글자/숫자 연속 구간마다 인접한 두 글자씩 자르고, 한 글자 구간은 그대로 쓴다.
+ */
+final class BigramTokenizer {
+
+    private BigramTokenizer() {
+    }
+
+    // 중복 포함 (문서의 단어 빈도 계산용)
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        int[] codePoints = normalized.codePoints().toArray();
+
+        int start = 0;
+        while (start < codePoints.length) {
+            if (!Character.isLetterOrDigit(codePoints[start])) {
+                start++;
+                continue;
+            }
+            int end = start;
+            while (end < codePoints.length && Character.isLetterOrDigit(codePoints[end])) {
+                end++;
+            }
+            if (end - start == 1) {
+                tokens.add(new String(codePoints, start, 1));
+            } else {
+                for (int i = start; i + 1 < end; i++) {
+                    tokens.add(new String(codePoints, i, 2));
+                }
+            }
+            start = end;
+        }
+        return tokens;
+    }
+}
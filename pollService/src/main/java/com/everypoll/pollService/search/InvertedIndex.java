@@ -0,0 +1,334 @@
+package com.everypoll.pollService.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * bigram 역색인 한 세대. 스레드 안전하지 않으며 PollSearchIndex가 읽기/쓰기 락으로 감싼다.
+ * poll이 바뀌면 기존 문서를 지운 것으로 표시하고 새 문서 번호로 다시 넣으므로 posting은 항상 뒤에만 붙는다.
+ * 지워진 문서가 많아지면 PollSearchIndex가 DB에서 새 세대를 만들어 바꾼다.
+ */
+final class InvertedIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final double STOP_RATIO = 0.5;
+    // 후보가 문서 수의 1/DENSE_DIVISOR보다 많으면 배열로 점수를 모음
+    private static final int DENSE_DIVISOR = 8;
+
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final Map<Long, Integer> docIds = new HashMap<>();
+    private final BitSet deleted = new BitSet();
+    private long[] pollIds = new long[1024];
+    private int[] lengths = new int[1024];
+    private int docCount;
+    private int liveCount;
+    private long liveLength;
+
+    void put(long pollId, String text) {
+        remove(pollId);
+        List<String> tokens = BigramTokenizer.tokenize(text);
+        Map<String, Integer> frequencies = new LinkedHashMap<>();
+        tokens.forEach(token -> frequencies.merge(token, 1, Integer::sum));
+
+        int docId = docCount++;
+        if (docId == pollIds.length) {
+            pollIds = Arrays.copyOf(pollIds, docId * 2);
+            lengths = Arrays.copyOf(lengths, docId * 2);
+        }
+        pollIds[docId] = pollId;
+        lengths[docId] = tokens.size();
+        frequencies.forEach((token, frequency) -> postings.computeIfAbsent(token, t -> new PostingList()).add(docId, frequency));
+
+        docIds.put(pollId, docId);
+        liveCount++;
+        liveLength += tokens.size();
+    }
+
+    void remove(long pollId) {
+        Integer docId = docIds.remove(pollId);
+        if (docId == null) {
+            return;
+        }
+        deleted.set(docId);
+        liveCount--;
+        liveLength -= lengths[docId];
+    }
+
+    /**
+     * BM25 점수 상위 limit개. 드문 단어부터 처리하며, 후보는 드문 단어(전체 문서의 commonRatio 이하에 나오는 단어)가 나온 문서로 정하고
+     * 흔한 단어는 이미 있는 후보의 점수만 더한다 (흔한 단어만 있으면 가장 드문 것 하나로 후보를 정함).
+     * 흔한 bigram("하는", "어떤" 등)의 긴 posting 때문에 후보가 불어나지 않게 하기 위함이다.
+     * 드문 단어가 하나라도 있으면 비용은 그 posting 길이에 비례하지만, 흔한 단어만 있는 질의는 가장 드문 것의 posting을
+     * 끝까지 읽어야 하므로 전체 poll 수에 비례한다 (100만 건에서 이런 질의가 p99 약 25ms의 원인).
+     */
+    List<Hit> search(String query, int limit, double commonRatio) {
+        LinkedHashSet<String> terms = new LinkedHashSet<>(BigramTokenizer.tokenize(query));
+        if (terms.isEmpty() || liveCount == 0) {
+            return List.of();
+        }
+        List<PostingList> matched = new ArrayList<>();
+        for (String term : terms) {
+            PostingList postingList = postings.get(term);
+            if (postingList != null) {
+                matched.add(postingList);
+            }
+        }
+        if (matched.isEmpty()) {
+            return List.of();
+        }
+        matched.sort((a, b) -> Integer.compare(a.count(), b.count()));
+        // 절반이 넘는 문서에 나오는 bigram은 idf가 log 2 미만이라 순위에 거의 영향이 없으므로, 다른 단어가 있으면 빼고 계산
+        int stopFrom = 1;
+        while (stopFrom < matched.size() && matched.get(stopFrom).count() <= liveCount * STOP_RATIO) {
+            stopFrom++;
+        }
+        matched = matched.subList(0, stopFrom);
+
+        double averageLength = Math.max(1.0, (double) liveLength / liveCount);
+        TopHits top = new TopHits(limit);
+        if (matched.size() == 1) {
+            // 단어 하나면 누적 없이 바로 상위 limit개를 고름
+            PostingList postingList = matched.get(0);
+            double idf = idf(postingList);
+            postingList.forEach((docId, tf) -> {
+                if (!deleted.get(docId)) {
+                    top.offer(docId, score(idf, tf, docId, averageLength));
+                }
+            });
+            return top.hits(pollIds);
+        }
+
+        long commonThreshold = Math.max(1, (long) (liveCount * commonRatio));
+        int seeding = 1;
+        int candidates = matched.get(0).count();
+        while (seeding < matched.size() && matched.get(seeding).count() <= commonThreshold) {
+            candidates += matched.get(seeding).count();
+            seeding++;
+        }
+
+        // 후보가 문서의 상당 부분이면 해시 맵보다 문서 번호로 바로 찾는 배열이 빠름
+        if (candidates > docCount / DENSE_DIVISOR) {
+            return denseSearch(matched, seeding, averageLength, top);
+        }
+
+        Accumulator accumulator = new Accumulator(candidates);
+        for (int i = 0; i < seeding; i++) {
+            PostingList postingList = matched.get(i);
+            double idf = idf(postingList);
+            postingList.forEach((docId, tf) -> {
+                if (!deleted.get(docId)) {
+                    accumulator.add(docId, (float) score(idf, tf, docId, averageLength), true);
+                }
+            });
+        }
+        // 흔한 단어는 후보 문서 위치만 건너뛰며 찾아 점수를 더함
+        if (seeding < matched.size()) {
+            int[] sorted = accumulator.sortedDocIds();
+            for (int i = seeding; i < matched.size(); i++) {
+                PostingList postingList = matched.get(i);
+                double idf = idf(postingList);
+                postingList.forEachIn(sorted, sorted.length,
+                        (docId, tf) -> accumulator.add(docId, (float) score(idf, tf, docId, averageLength), false));
+            }
+        }
+        for (int slot = 0; slot < accumulator.docIds.length; slot++) {
+            int docId = accumulator.docIds[slot] - 1;
+            if (docId >= 0) {
+                top.offer(docId, accumulator.scores[slot]);
+            }
+        }
+        return top.hits(pollIds);
+    }
+
+    private List<Hit> denseSearch(List<PostingList> matched, int seeding, double averageLength, TopHits top) {
+        float[] scores = new float[docCount];
+        for (int i = 0; i < matched.size(); i++) {
+            PostingList postingList = matched.get(i);
+            double idf = idf(postingList);
+            boolean seed = i < seeding;
+            postingList.forEach((docId, tf) -> {
+                if ((seed || scores[docId] > 0) && !deleted.get(docId)) {
+                    scores[docId] += (float) score(idf, tf, docId, averageLength);
+                }
+            });
+        }
+        for (int docId = 0; docId < scores.length; docId++) {
+            if (scores[docId] > 0) {
+                top.offer(docId, scores[docId]);
+            }
+        }
+        return top.hits(pollIds);
+    }
+
+    // 지워진 문서의 항목도 posting에 남아 있으므로 df는 근사값
+    private double idf(PostingList postingList) {
+        int df = Math.min(postingList.count(), liveCount);
+        return Math.log(1 + (liveCount - df + 0.5) / (df + 0.5));
+    }
+
+    private double score(double idf, int tf, int docId, double averageLength) {
+        double norm = K1 * (1 - B + B * lengths[docId] / averageLength);
+        return idf * tf * (K1 + 1) / (tf + norm);
+    }
+
+    int liveCount() {
+        return liveCount;
+    }
+
+    int termCount() {
+        return postings.size();
+    }
+
+    double deletedRatio() {
+        return docCount == 0 ? 0 : (double) (docCount - liveCount) / docCount;
+    }
+
+    long postingBytes() {
+        return postings.values().stream().mapToLong(PostingList::sizeInBytes).sum();
+    }
+
+    static final class Hit {
+        private final long pollId;
+        private final float score;
+
+        private Hit(long pollId, float score) {
+            this.pollId = pollId;
+            this.score = score;
+        }
+
+        long pollId() {
+            return pollId;
+        }
+
+        float score() {
+            return score;
+        }
+    }
+
+    // 점수가 가장 낮은 항목이 맨 위인 크기 limit 힙 (docId와 점수를 병렬 배열로 들고 있음)
+    private static final class TopHits {
+        private final int[] docIds;
+        private final float[] scores;
+        private int size;
+
+        private TopHits(int limit) {
+            this.docIds = new int[limit];
+            this.scores = new float[limit];
+        }
+
+        private void offer(int docId, double score) {
+            if (size < docIds.length) {
+                docIds[size] = docId;
+                scores[size] = (float) score;
+                siftUp(size++);
+            } else if (score > scores[0]) {
+                docIds[0] = docId;
+                scores[0] = (float) score;
+                siftDown(0);
+            }
+        }
+
+        private List<Hit> hits(long[] pollIds) {
+            List<Hit> hits = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                hits.add(new Hit(pollIds[docIds[i]], scores[i]));
+            }
+            hits.sort((a, b) -> Float.compare(b.score(), a.score()));
+            return hits;
+        }
+
+        private void siftUp(int i) {
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (scores[parent] <= scores[i]) {
+                    return;
+                }
+                swap(i, parent);
+                i = parent;
+            }
+        }
+
+        private void siftDown(int i) {
+            while (true) {
+                int smallest = i;
+                int left = 2 * i + 1;
+                int right = left + 1;
+                if (left < size && scores[left] < scores[smallest]) {
+                    smallest = left;
+                }
+                if (right < size && scores[right] < scores[smallest]) {
+                    smallest = right;
+                }
+                if (smallest == i) {
+                    return;
+                }
+                swap(i, smallest);
+                i = smallest;
+            }
+        }
+
+        private void swap(int a, int b) {
+            int docId = docIds[a];
+            docIds[a] = docIds[b];
+            docIds[b] = docId;
+            float score = scores[a];
+            scores[a] = scores[b];
+            scores[b] = score;
+        }
+    }
+
+    // 후보 수에 맞춘 docId -> 점수 open addressing 맵, 0은 빈 칸이라 docId + 1을 저장
+    private static final class Accumulator {
+        private final int[] docIds;
+        private final float[] scores;
+        private final int mask;
+
+        private Accumulator(int candidates) {
+            int capacity = Integer.highestOneBit(Math.max(16, candidates * 2 - 1)) << 1;
+            this.docIds = new int[capacity];
+            this.scores = new float[capacity];
+            this.mask = capacity - 1;
+        }
+
+        private int[] sortedDocIds() {
+            int size = 0;
+            for (int docId : docIds) {
+                if (docId != 0) {
+                    size++;
+                }
+            }
+            int[] sorted = new int[size];
+            int i = 0;
+            for (int docId : docIds) {
+                if (docId != 0) {
+                    sorted[i++] = docId - 1;
+                }
+            }
+            Arrays.sort(sorted);
+            return sorted;
+        }
+
+        // insert가 false면 이미 후보인 문서에만 더함
+        private void add(int docId, float score, boolean insert) {
+            int slot = (docId * 0x9E3779B9) >>> 1 & mask;
+            while (docIds[slot] != 0) {
+                if (docIds[slot] == docId + 1) {
+                    scores[slot] += score;
+                    return;
+                }
+                slot = (slot + 1) & mask;
+            }
+            if (insert) {
+                docIds[slot] = docId + 1;
+                scores[slot] = score;
+            }
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package com.everypoll.pollService.search;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.everypoll.pollService.dto.PollSearchHit;
+import com.everypoll.pollService.dto.PollSearchStatsResponse;
+import com.everypoll.pollService.exception.SearchIndexUnavailableException;
+import com.everypoll.pollService.repository.PollRepository;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * poll 질문과 선택지 문구의 메모리 전문 검색 색인 (글자 bigram + BM25).
+ * 시작할 때 DB에서 id 구간 단위로 읽어 만들고, 이후에는 poll-snapshot-topic으로 들어오는 변경을 바로 반영한다.
+ * 지워진 문서 비율이 높아지면 새 세대를 DB에서 다시 만들어 바꾸며, 만드는 동안 들어온 변경은 새 세대에도 다시 적용한다.
+ * 첫 생성은 PollSnapshotListener가 파티션을 받은 뒤에 시작하므로, DB에서 읽은 뒤의 변경은 모두 토픽으로 다시 들어온다.
+ */
+@Slf4j
+@Component
+public class PollSearchIndex {
+
+    private final PollRepository pollRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private InvertedIndex index = new InvertedIndex();
+    // 새 세대를 만드는 동안 들어온 변경, lock 안에서만 접근
+    private List<Consumer<InvertedIndex>> pendingDuringRebuild;
+    private volatile boolean ready;
+    // 스냅샷 토픽의 파티션을 받아 시작 위치가 정해졌는지, 그 전에는 생성하지 않음
+    private final AtomicBoolean assigned = new AtomicBoolean();
+
+    @Value("${poll.search.build-id-range:1000}")
+    private long idRange;
+
+    @Value("${poll.search.max-limit:50}")
+    private int maxLimit;
+
+    // 전체 poll 중 이 비율보다 많이 나오는 단어는 후보를 늘리지 않고 점수만 더함
+    @Value("${poll.search.common-term-ratio:0.05}")
+    private double commonRatio;
+
+    // 지워진(덮어쓴) 문서 비율이 이보다 높으면 다시 만듦
+    @Value("${poll.search.rebuild-deleted-ratio:0.3}")
+    private double rebuildDeletedRatio;
+
+    @Value("${poll.search.check-interval-ms:60000}")
+    private long checkIntervalMs;
+
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "poll-search-index");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public PollSearchIndex(PollRepository pollRepository, PlatformTransactionManager transactionManager) {
+        this.pollRepository = pollRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @PostConstruct
+    public void start() {
+        executor.scheduleWithFixedDelay(this::compactIfNeeded, checkIntervalMs, checkIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    // 리스너 파티션 할당 콜백에서 호출, 처음 한 번만 첫 생성을 시작함 (실패하면 점검 주기에 다시 시도)
+    public void onPartitionsAssigned() {
+        if (assigned.compareAndSet(false, true)) {
+            executor.execute(this::rebuildQuietly);
+        }
+    }
+
+    public void put(long pollId, String question, List<String> optionTexts) {
+        String text = text(question, optionTexts);
+        update(index -> index.put(pollId, text));
+    }
+
+    public void remove(long pollId) {
+        update(index -> index.remove(pollId));
+    }
+
+    public List<PollSearchHit> search(String query, int limit) {
+        if (!ready) {
+            throw new SearchIndexUnavailableException();
+        }
+        int size = Math.max(1, Math.min(limit, maxLimit));
+        lock.readLock().lock();
+        try {
+            return index.search(query, size, commonRatio).stream()
+                    .map(hit -> PollSearchHit.builder()
+                            .pollId(hit.pollId())
+                            .score(hit.score())
+                            .build())
+                    .collect(Collectors.toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public PollSearchStatsResponse stats() {
+        lock.readLock().lock();
+        try {
+            return PollSearchStatsResponse.builder()
+                    .ready(ready)
+                    .polls(index.liveCount())
+                    .terms(index.termCount())
+                    .postingBytes(index.postingBytes())
+                    .deletedRatio(index.deletedRatio())
+                    .build();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // DB 전체를 읽어 새 세대를 만들고 바꿈, 만드는 동안 검색과 변경 반영은 기존 세대로 계속됨
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            pendingDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        long startedAt = System.currentTimeMillis();
+        InvertedIndex next = new InvertedIndex();
+        try {
+            Long maxId = readOnlyTransaction.execute(status -> pollRepository.findMaxId());
+            for (long fromId = 0; maxId != null && fromId < maxId; fromId += idRange) {
+                long from = fromId;
+                readOnlyTransaction.executeWithoutResult(status -> load(next, pollRepository.findSnapshotRows(from, from + idRange)));
+            }
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pendingDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            pendingDuringRebuild.forEach(change -> change.accept(next));
+            pendingDuringRebuild = null;
+            index = next;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("poll 검색 색인 생성: poll {}개, 단어 {}개, {}ms", next.liveCount(), next.termCount(), System.currentTimeMillis() - startedAt);
+    }
+
+    private void update(Consumer<InvertedIndex> change) {
+        lock.writeLock().lock();
+        try {
+            change.accept(index);
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // (pollId, createdBy, optionId, question, optionText) 행을 poll별로 모아 넣음
+    private static void load(InvertedIndex target, List<Object[]> rows) {
+        Map<Long, List<String>> texts = new LinkedHashMap<>();
+        Map<Long, String> questions = new LinkedHashMap<>();
+        for (Object[] row : rows) {
+            Long pollId = (Long) row[0];
+            questions.putIfAbsent(pollId, (String) row[3]);
+            List<String> optionTexts = texts.computeIfAbsent(pollId, id -> new ArrayList<>());
+            if (row[4] != null) {
+                optionTexts.add((String) row[4]);
+            }
+        }
+        questions.forEach((pollId, question) -> target.put(pollId, text(question, texts.get(pollId))));
+    }
+
+    private static String text(String question, List<String> optionTexts) {
+        StringBuilder text = new StringBuilder(question == null ? "" : question);
+        if (optionTexts != null) {
+            optionTexts.forEach(optionText -> text.append('\n').append(optionText));
+        }
+        return text.toString();
+    }
+
+    private void compactIfNeeded() {
+        if (!assigned.get()) {
+            return;
+        }
+        double deletedRatio;
+        lock.readLock().lock();
+        try {
+            deletedRatio = index.deletedRatio();
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (!ready || deletedRatio > rebuildDeletedRatio) {
+            rebuildQuietly();
+        }
+    }
+
+    private void rebuildQuietly() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            // 처음 생성에 실패하면 ready가 false로 남아 다음 점검 주기에 다시 시도함
+            log.error("poll 검색 색인 생성 실패: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,151 @@
+package com.everypoll.pollService.search;
+
+import java.util.Arrays;
+
+/**
+ * 한 단어의 (문서 번호, 단어 빈도) 목록. 문서 번호는 늘어나는 순서로만 추가되므로
+ * 앞 번호와의 차이와 빈도를 varint로 이어 붙여 보통 항목당 2~3바이트만 쓴다.
+ * SKIP_INTERVAL 항목마다 건너뛰기 지점을 두어, 후보 문서만 확인할 때는 긴 목록을 처음부터 풀지 않는다.
+ */
+final class PostingList {
+
+    private static final int SKIP_INTERVAL = 128;
+
+    private byte[] bytes = new byte[8];
+    private int length;
+    private int lastDocId = -1;
+    private int count;
+    // 블록 k는 skipDocIds[k] 다음 문서부터 bytes[skipOffsets[k]]에서 시작
+    private int[] skipDocIds = new int[1];
+    private int[] skipOffsets = new int[1];
+    private int skipCount;
+
+    void add(int docId, int termFrequency) {
+        if (docId <= lastDocId) {
+            throw new IllegalArgumentException("docId must increase: " + docId + " after " + lastDocId);
+        }
+        if (count % SKIP_INTERVAL == 0) {
+            if (skipCount == skipDocIds.length) {
+                skipDocIds = Arrays.copyOf(skipDocIds, skipCount * 2);
+                skipOffsets = Arrays.copyOf(skipOffsets, skipCount * 2);
+            }
+            skipDocIds[skipCount] = lastDocId;
+            skipOffsets[skipCount] = length;
+            skipCount++;
+        }
+        ensureCapacity(10);
+        writeVarint(docId - lastDocId);
+        writeVarint(termFrequency);
+        lastDocId = docId;
+        count++;
+    }
+
+    // 지워진 문서의 항목도 포함한 개수 (BM25 df 근사값)
+    int count() {
+        return count;
+    }
+
+    int sizeInBytes() {
+        return bytes.length + skipDocIds.length * 8;
+    }
+
+    void forEach(Visitor visitor) {
+        int position = 0;
+        int docId = -1;
+        while (position < length) {
+            int delta = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = bytes[position++];
+                delta |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+
+            int termFrequency = 0;
+            shift = 0;
+            do {
+                b = bytes[position++];
+                termFrequency |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+
+            docId += delta;
+            visitor.visit(docId, termFrequency);
+        }
+    }
+
+    // 오름차순 후보 문서 중 이 단어가 나온 문서만 넘김, 후보 사이의 블록은 건너뜀
+    void forEachIn(int[] sortedDocIds, int size, Visitor visitor) {
+        int position = 0;
+        int docId = -1;
+        int termFrequency = 0;
+        boolean decoded = false;
+        int block = 0;
+        for (int i = 0; i < size; i++) {
+            int target = sortedDocIds[i];
+            if (decoded && docId >= target) {
+                if (docId == target) {
+                    visitor.visit(docId, termFrequency);
+                }
+                continue;
+            }
+            while (block + 1 < skipCount && skipDocIds[block + 1] < target) {
+                block++;
+            }
+            if (skipOffsets[block] > position) {
+                position = skipOffsets[block];
+                docId = skipDocIds[block];
+                decoded = false;
+            }
+            while (position < length) {
+                int delta = 0;
+                int shift = 0;
+                byte b;
+                do {
+                    b = bytes[position++];
+                    delta |= (b & 0x7F) << shift;
+                    shift += 7;
+                } while (b < 0);
+
+                termFrequency = 0;
+                shift = 0;
+                do {
+                    b = bytes[position++];
+                    termFrequency |= (b & 0x7F) << shift;
+                    shift += 7;
+                } while (b < 0);
+
+                docId += delta;
+                decoded = true;
+                if (docId >= target) {
+                    break;
+                }
+            }
+            if (!decoded || docId < target) {
+                return; // 목록 끝
+            }
+            if (docId == target) {
+                visitor.visit(docId, termFrequency);
+            }
+        }
+    }
+
+    private void writeVarint(int value) {
+        while ((value & ~0x7F) != 0) {
+            bytes[length++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        bytes[length++] = (byte) value;
+    }
+
+    private void ensureCapacity(int extra) {
+        if (length + extra > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + extra));
+        }
+    }
+
+    interface Visitor {
+        void visit(int docId, int termFrequency);
+    }
+}
@@ -10,6 +10,9 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import com.everypoll.common.config.RateLimitFilter;
+import com.everypoll.common.config.RateLimiter;
+
 import lombok.RequiredArgsConstructor;
 
 @Configuration
@@ -18,6 +21,7 @@ import lombok.RequiredArgsConstructor;
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final RateLimiter rateLimiter;
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
@@ -25,11 +29,15 @@ public class SecurityConfig {
                 .csrf(AbstractHttpConfigurer::disable)
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
+                        // 전체 내보내기는 끝날 때까지 DB 연결을 잡으므로 로그인한 사용자만
+                        .requestMatchers(HttpMethod.GET, "/api/polls/stream").authenticated()
                         .requestMatchers(HttpMethod.GET, "/api/polls/**").permitAll()
                         .anyRequest().authenticated()
                 )
                 // JWT 인증 security에 탑재 
-                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                // 사용자(또는 IP)별 요청 제한, 규칙은 rate-limit.rules
+                .addFilterAfter(new RateLimitFilter(rateLimiter), JwtAuthenticationFilter.class);
 
         return http.build();
     }
@@ -0,0 +1,35 @@
+package com.everypoll.pollService.service;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Service;
+
+import com.everypoll.common.dto.PollSnapshotEvent;
+import com.everypoll.pollService.config.KafkaTopicConfig;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class KafkaProducerService {
+    private final KafkaTemplate<String, PollSnapshotEvent> kafkaTemplate;
+
+    // value가 null이면 tombstone (압축되면서 해당 poll이 토픽에서 사라짐)
+    public CompletableFuture<SendResult<String, PollSnapshotEvent>> sendPollSnapshot(Long pollId, PollSnapshotEvent snapshot) {
+        return kafkaTemplate.send(KafkaTopicConfig.POLL_SNAPSHOT_TOPIC, String.valueOf(pollId), snapshot)
+                .whenComplete((result, ex) -> {
+                    if (ex != null) {
+                        log.error("Failed to send poll snapshot for pollId={}: {}", pollId, ex.getMessage());
+                    }
+                });
+    }
+
+    // producer가 linger 동안 모아 둔 batch를 바로 보냄
+    public void flush() {
+        kafkaTemplate.flush();
+    }
+}
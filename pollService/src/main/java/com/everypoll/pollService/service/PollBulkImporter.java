@@ -0,0 +1,138 @@
+package com.everypoll.pollService.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.everypoll.pollService.dto.PollBulkError;
+import com.everypoll.pollService.dto.PollBulkResponse;
+import com.everypoll.pollService.dto.PollCreateRequest;
+import com.everypoll.pollService.event.PollChangedEvent;
+import com.everypoll.pollService.repository.PollJdbcRepository;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * poll 대량 등록. 요청 본문(JSON 배열 또는 줄 단위 JSON)을 하나씩 읽어 chunk 단위로 모으고,
+ * chunk마다 한 트랜잭션에서 poll과 선택지를 JDBC batch로 넣는다. 본문 전체를 메모리에 올리지 않는다.
+ * 검증에 실패한 항목과 DB 오류로 실패한 chunk의 항목은 errors에 위치와 함께 담긴다 (DB 오류 내용은 로그에만 남김).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PollBulkImporter {
+
+    // DB 오류 내용(SQL, 제약 조건 이름 등)은 로그에만 남기고 응답에는 이 문구만 보냄
+    static final String CHUNK_FAILED_MESSAGE = "저장 중 오류가 발생해 이 항목이 포함된 묶음이 등록되지 않았습니다.";
+
+    private final PollJdbcRepository pollJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    @Value("${poll.bulk.chunk-size:1000}")
+    private int chunkSize;
+
+    public PollBulkResponse importPolls(InputStream body, String createdBy) throws IOException {
+        List<Long> ids = new ArrayList<>();
+        List<PollBulkError> errors = new ArrayList<>();
+        List<PollCreateRequest> chunk = new ArrayList<>(chunkSize);
+        List<Integer> chunkIndexes = new ArrayList<>(chunkSize);
+
+        try (MappingIterator<PollCreateRequest> requests = objectMapper.readerFor(PollCreateRequest.class).readValues(body)) {
+            int index = 0;
+            while (requests.hasNextValue()) {
+                PollCreateRequest request = requests.nextValue();
+                ids.add(null);
+                String invalid = validate(request);
+                if (invalid != null) {
+                    errors.add(error(index, invalid));
+                } else {
+                    chunk.add(request);
+                    chunkIndexes.add(index);
+                    if (chunk.size() >= chunkSize) {
+                        insertChunk(chunk, chunkIndexes, createdBy, ids, errors);
+                    }
+                }
+                index++;
+            }
+        }
+        if (!chunk.isEmpty()) {
+            insertChunk(chunk, chunkIndexes, createdBy, ids, errors);
+        }
+
+        int created = (int) ids.stream().filter(id -> id != null).count();
+        log.info("poll 대량 등록 {}건 중 {}건 성공", ids.size(), created);
+        return PollBulkResponse.builder()
+                .created(created)
+                .ids(ids)
+                .errors(errors)
+                .build();
+    }
+
+    // chunk 하나를 한 트랜잭션으로 넣음, 실패하면 chunk 전체가 롤백되고 항목마다 오류로 남음
+    private void insertChunk(List<PollCreateRequest> chunk, List<Integer> chunkIndexes, String createdBy,
+            List<Long> ids, List<PollBulkError> errors) {
+        try {
+            List<Long> pollIds = transactionTemplate.execute(status -> {
+                List<Long> inserted = pollJdbcRepository.insertPolls(chunk, createdBy, LocalDateTime.now());
+                List<List<Long>> optionIds = pollJdbcRepository.insertOptions(inserted, chunk);
+                // chunk의 변경은 커밋 직전에 outbox로 한 번에 batch insert 됨
+                for (int i = 0; i < inserted.size(); i++) {
+                    PollCreateRequest request = chunk.get(i);
+                    eventPublisher.publishEvent(new PollChangedEvent(inserted.get(i), createdBy, optionIds.get(i),
+                            request.getQuestion(), request.getOptionTexts(), false));
+                }
+                return inserted;
+            });
+            for (int i = 0; i < chunkIndexes.size(); i++) {
+                ids.set(chunkIndexes.get(i), pollIds.get(i));
+            }
+        } catch (RuntimeException e) {
+            log.error("poll 대량 등록 chunk 실패 (위치 {}부터 {}건)", chunkIndexes.get(0), chunk.size(), e);
+            chunkIndexes.forEach(index -> errors.add(error(index, CHUNK_FAILED_MESSAGE)));
+        }
+        chunk.clear();
+        chunkIndexes.clear();
+    }
+
+    // PollCreateRequest의 검증 어노테이션을 그대로 적용, 통과하면 null
+    private String validate(PollCreateRequest request) {
+        if (request == null) {
+            return "요청이 비어 있습니다.";
+        }
+        Set<ConstraintViolation<PollCreateRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining(", "));
+        }
+        if (request.getOptionTexts().stream().anyMatch(text -> text == null || text.isBlank())) {
+            return "선택지는 비어 있을 수 없습니다.";
+        }
+        return null;
+    }
+
+    private static PollBulkError error(int index, String message) {
+        return PollBulkError.builder()
+                .index(index)
+                .message(message)
+                .build();
+    }
+}
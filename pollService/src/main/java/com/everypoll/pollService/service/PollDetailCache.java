@@ -0,0 +1,54 @@
+package com.everypoll.pollService.service;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.everypoll.pollService.dto.PollResponse;
+import com.everypoll.pollService.repository.PollQueryRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * poll 상세 응답의 크기/TTL 제한 캐시.
+ * 같은 키의 로딩은 Caffeine이 하나로 묶으므로, 비어 있는 키에 요청이 몰려도 DB 조회는 한 번이다.
+ * 변경은 커밋 직후 이 인스턴스에서, 다른 인스턴스에는 poll-snapshot-topic으로 전달되어 무효화된다.
+ * 무효화 직후 다시 채울 때 복제가 늦은 replica에서 읽으면 이전 값이 TTL 동안 남으므로 항상 primary에서 읽는다.
+ */
+@Component
+public class PollDetailCache {
+
+    private final PollQueryRepository pollQueryRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Cache<Long, PollResponse> cache;
+
+    public PollDetailCache(PollQueryRepository pollQueryRepository, PlatformTransactionManager transactionManager,
+            @Value("${poll.cache.max-size:10000}") long maxSize,
+            @Value("${poll.cache.ttl-ms:60000}") long ttlMs) {
+        this.pollQueryRepository = pollQueryRepository;
+        // readOnly로 두면 replica로 라우팅되므로 일반 트랜잭션으로 읽음
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(ttlMs))
+                .build();
+    }
+
+    // 캐시에 있으면 DB 연결 없이 반환, 없는 poll은 캐시하지 않음
+    public Optional<PollResponse> get(Long pollId) {
+        return Optional.ofNullable(cache.get(pollId, this::load));
+    }
+
+    // 로딩 중인 키를 지우면 로딩이 끝날 때까지 기다렸다가 지우므로 이전 값이 남지 않음
+    public void invalidate(Long pollId) {
+        cache.invalidate(pollId);
+    }
+
+    private PollResponse load(Long pollId) {
+        return transactionTemplate.execute(status -> pollQueryRepository.findById(pollId).orElse(null));
+    }
+}
@@ -0,0 +1,170 @@
+package com.everypoll.pollService.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.everypoll.common.dto.PollSnapshotEvent;
+import com.everypoll.pollService.model.OutboxEvent;
+import com.everypoll.pollService.repository.OutboxJdbcRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * outbox에 쌓인 poll 스냅샷을 poll-snapshot-topic으로 보내는 relay.
+ * 한 트랜잭션에서 앞쪽 batchSize개 행을 잠그고(SKIP LOCKED), 전부 비동기로 보낸 뒤 flush해서 producer batch/압축을 타게 하고,
+ * 모든 전송이 확인되면 보낸 행을 한 번에 지운다. 전송이 실패하면 롤백되어 다음 주기에 다시 보낸다 (at-least-once).
+ * 여러 인스턴스가 동시에 돌 때 같은 poll의 변경 순서가 뒤집히지 않도록, 가장 오래된 행을 잠근 relay만 보낸다.
+ */
+@Slf4j
+@Component
+public class PollOutboxRelay {
+
+    private final OutboxJdbcRepository outboxRepository;
+    private final KafkaProducerService kafkaProducerService;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    private final AtomicBoolean wakeUpQueued = new AtomicBoolean();
+
+    @Value("${poll.outbox.relay-enabled:true}")
+    private boolean enabled;
+
+    @Value("${poll.outbox.batch-size:500}")
+    private int batchSize;
+
+    @Value("${poll.outbox.interval-ms:1000}")
+    private long intervalMs;
+
+    // batch 전체의 전송 확인을 기다리는 시간, 넘으면 롤백하고 다음 주기에 다시 보냄
+    @Value("${poll.outbox.send-timeout-ms:10000}")
+    private long sendTimeoutMs;
+
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "poll-outbox-relay");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public PollOutboxRelay(OutboxJdbcRepository outboxRepository, KafkaProducerService kafkaProducerService,
+            PlatformTransactionManager transactionManager, ObjectMapper objectMapper) {
+        this.outboxRepository = outboxRepository;
+        this.kafkaProducerService = kafkaProducerService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (enabled) {
+            executor.scheduleWithFixedDelay(this::relayQuietly, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // 커밋 직후 호출, 주기를 기다리지 않고 바로 보냄 (이미 예약된 실행이 있으면 그걸로 충분)
+    public void wakeUp() {
+        if (enabled && !executor.isShutdown() && wakeUpQueued.compareAndSet(false, true)) {
+            executor.execute(() -> {
+                wakeUpQueued.set(false);
+                relayQuietly();
+            });
+        }
+    }
+
+    // 가득 찬 batch가 나오는 동안 계속 보냄
+    public int relay() {
+        int relayed = 0;
+        while (!executor.isShutdown()) {
+            Integer count = transactionTemplate.execute(status -> relayBatch());
+            relayed += count;
+            if (count < batchSize) {
+                break;
+            }
+        }
+        if (relayed > 0) {
+            log.debug("outbox {}건 전송", relayed);
+        }
+        return relayed;
+    }
+
+    private int relayBatch() {
+        Long headId = outboxRepository.findHeadId();
+        if (headId == null) {
+            return 0;
+        }
+        List<OutboxEvent> batch = outboxRepository.claimBatch(batchSize);
+        // 가장 오래된 행을 다른 인스턴스가 보내는 중이면 그쪽이 끝날 때까지 기다림
+        if (batch.isEmpty() || !batch.get(0).getId().equals(headId)) {
+            return 0;
+        }
+
+        // 압축 토픽이라 같은 poll은 batch 안의 마지막 스냅샷만 보내면 됨
+        Map<String, OutboxEvent> latest = new LinkedHashMap<>();
+        for (OutboxEvent event : batch) {
+            latest.remove(event.getMessageKey());
+            latest.put(event.getMessageKey(), event);
+        }
+
+        List<CompletableFuture<?>> sends = new ArrayList<>(latest.size());
+        for (OutboxEvent event : latest.values()) {
+            sends.add(kafkaProducerService.sendPollSnapshot(Long.valueOf(event.getMessageKey()), snapshotOf(event)));
+        }
+        kafkaProducerService.flush();
+        awaitAll(sends);
+
+        outboxRepository.deleteAll(batch.stream().map(OutboxEvent::getId).toList());
+        return batch.size();
+    }
+
+    private PollSnapshotEvent snapshotOf(OutboxEvent event) {
+        if (event.getPayload() == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(event.getPayload(), PollSnapshotEvent.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Malformed outbox payload id=" + event.getId(), e);
+        }
+    }
+
+    private void awaitAll(List<CompletableFuture<?>> sends) {
+        try {
+            CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new)).get(sendTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while sending outbox batch", e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new IllegalStateException("Failed to send outbox batch", e);
+        }
+    }
+
+    private void relayQuietly() {
+        try {
+            relay();
+        } catch (RuntimeException e) {
+            log.error("outbox 전송 실패, 다음 주기에 다시 보냅니다: {}", e.getMessage());
+        }
+    }
+}
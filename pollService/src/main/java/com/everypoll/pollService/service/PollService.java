@@ -1,7 +1,9 @@
 package com.everypoll.pollService.service;
 
 import com.everypoll.pollService.dto.PollCreateRequest;
+import com.everypoll.pollService.dto.PollCursor;
 import com.everypoll.pollService.dto.PollResponse;
+import com.everypoll.pollService.dto.PollSummaryPage;
 import com.everypoll.pollService.dto.PollUpdateRequest;
 
 import java.util.List;
@@ -9,6 +11,7 @@ import java.util.List;
 public interface PollService {
     PollResponse createPoll(PollCreateRequest request, String username);
     List<PollResponse> getAllPolls();
+    PollSummaryPage getPolls(PollCursor after, int limit);
     PollResponse getPollById(Long pollId);
     PollResponse updatePoll(Long pollId, PollUpdateRequest request, String username);
     void deletePoll(Long pollId, String username);
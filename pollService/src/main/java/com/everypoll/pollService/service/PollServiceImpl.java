@@ -1,13 +1,22 @@
 package com.everypoll.pollService.service;
 
 import com.everypoll.pollService.dto.PollCreateRequest;
+import com.everypoll.pollService.dto.PollCursor;
 import com.everypoll.pollService.dto.PollResponse;
+import com.everypoll.pollService.dto.PollSummaryPage;
+import com.everypoll.pollService.dto.PollSummaryResponse;
 import com.everypoll.pollService.dto.PollUpdateRequest;
+import com.everypoll.pollService.event.PollChangedEvent;
 import com.everypoll.pollService.model.Poll;
 import com.everypoll.pollService.model.PollOption;
 import com.everypoll.pollService.exception.ResourceNotFoundException;
+import com.everypoll.pollService.repository.PollQueryRepository;
 import com.everypoll.pollService.repository.PollRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,6 +28,12 @@ import java.util.stream.Collectors;
 public class PollServiceImpl implements PollService {
 
     private final PollRepository pollRepository;
+    private final PollQueryRepository pollQueryRepository;
+    private final PollDetailCache pollDetailCache;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${poll.list.max-limit:100}")
+    private int maxLimit;
 
     // CREATE
     @Override
@@ -37,6 +52,7 @@ public class PollServiceImpl implements PollService {
         });
 
         Poll savedPoll = pollRepository.save(poll);
+        publishChanged(savedPoll);
         return PollResponse.from(savedPoll);
     }
 
@@ -44,17 +60,31 @@ public class PollServiceImpl implements PollService {
     @Override
     @Transactional(readOnly = true)
     public List<PollResponse> getAllPolls() {
-        return pollRepository.findAll().stream()
-                .map(PollResponse::from)
-                .collect(Collectors.toList());
+        return pollQueryRepository.findAll();
     }
 
-    // READ (Single)
+    // READ (Page) - 커서 다음부터 limit개 요약, 선택지는 개수만
     @Override
     @Transactional(readOnly = true)
+    public PollSummaryPage getPolls(PollCursor after, int limit) {
+        int size = Math.max(1, Math.min(limit, maxLimit));
+        Pageable page = PageRequest.of(0, size);
+        List<Object[]> rows = after == null
+                ? pollRepository.findSummaries(page)
+                : pollRepository.findSummariesBefore(after.getCreatedAt(), after.getId(), page);
+        List<PollSummaryResponse> polls = rows.stream()
+                .map(PollSummaryResponse::from)
+                .collect(Collectors.toList());
+        return PollSummaryPage.builder()
+                .polls(polls)
+                .nextCursor(polls.size() == size ? PollCursor.of(polls.get(size - 1)) : null)
+                .build();
+    }
+
+    // READ (Single) - 캐시에 없을 때만 읽기 전용 트랜잭션으로 조회
+    @Override
     public PollResponse getPollById(Long pollId) {
-        return pollRepository.findById(pollId)
-                .map(PollResponse::from)
+        return pollDetailCache.get(pollId)
                 .orElseThrow(() -> new ResourceNotFoundException("Poll", "id", pollId));
     }
 
@@ -73,14 +103,14 @@ public class PollServiceImpl implements PollService {
 
         poll.updateQuestion(request.getQuestion());
 
-        poll.getOptions().clear(); // 옵션들 다 지우고 새로 추가
-        request.getOptionTexts().forEach(optionText -> {
-            PollOption option = PollOption.builder()
-                    .optionText(optionText)
-                    .build();
-            poll.addOption(option);
-        });
+        // 기존 선택지는 id로 찾아 바뀐 것만 수정/추가/삭제
+        poll.updateOptions(request.getOptions().stream()
+                .map(option -> PollOption.builder().id(option.getId()).optionText(option.getOptionText()).build())
+                .collect(Collectors.toList()));
 
+        // 새 선택지의 id를 스냅샷에 담기 위해 먼저 반영 (수정/삭제는 jdbc batch로 묶임)
+        pollRepository.flush();
+        publishChanged(poll);
         return PollResponse.from(poll);
     }
 
@@ -98,5 +128,17 @@ public class PollServiceImpl implements PollService {
         }
         
         pollRepository.delete(poll);
+        eventPublisher.publishEvent(new PollChangedEvent(pollId, poll.getCreatedBy(), List.of(), null, List.of(), true));
+    }
+
+    // PollSnapshotPublisher가 같은 트랜잭션에서 outbox에 기록, 커밋 뒤 relay가 poll-snapshot-topic으로 내보냄
+    private void publishChanged(Poll poll) {
+        List<Long> optionIds = poll.getOptions().stream()
+                .map(PollOption::getId)
+                .collect(Collectors.toList());
+        List<String> optionTexts = poll.getOptions().stream()
+                .map(PollOption::getOptionText)
+                .collect(Collectors.toList());
+        eventPublisher.publishEvent(new PollChangedEvent(poll.getId(), poll.getCreatedBy(), optionIds, poll.getQuestion(), optionTexts, false));
     }
 }
\ No newline at end of file
@@ -0,0 +1,114 @@
+package com.everypoll.pollService.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.everypoll.common.dto.PollSnapshotEvent;
+import com.everypoll.pollService.model.OutboxEvent;
+import com.everypoll.pollService.repository.OutboxJdbcRepository;
+import com.everypoll.pollService.repository.PollRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 시작할 때 모든 poll의 스냅샷을 outbox에 다시 쌓아 poll-snapshot-topic으로 보내게 한다.
+ * 토픽이 생기기 전에 만들어진 poll도 voteService 복제본에 들어가게 하며, 압축 토픽이라 중복은 곧 정리된다.
+ * 브로커로 직접 보내지 않고 id 구간마다 한 트랜잭션에서 poll 행을 공유 잠금으로 읽고 outbox에 넣으므로,
+ * 같은 poll의 수정/삭제는 그 뒤의 outbox 행이 되어 relay(유일한 producer)가 순서대로 보낸다.
+ */
+@Slf4j
+@Component
+public class PollSnapshotBackfill implements ApplicationRunner {
+
+    private final PollRepository pollRepository;
+    private final OutboxJdbcRepository outboxRepository;
+    private final PollOutboxRelay pollOutboxRelay;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${poll.snapshot.backfill-on-startup:false}")
+    private boolean enabled;
+
+    @Value("${poll.snapshot.backfill-id-range:1000}")
+    private long idRange;
+
+    public PollSnapshotBackfill(PollRepository pollRepository, OutboxJdbcRepository outboxRepository,
+            PollOutboxRelay pollOutboxRelay, PlatformTransactionManager transactionManager, ObjectMapper objectMapper) {
+        this.pollRepository = pollRepository;
+        this.outboxRepository = outboxRepository;
+        this.pollOutboxRelay = pollOutboxRelay;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+        Long maxId = pollRepository.findMaxId();
+        if (maxId == null) {
+            return;
+        }
+
+        long queued = 0;
+        for (long fromId = 0; fromId < maxId; fromId += idRange) {
+            long rangeFrom = fromId;
+            queued += transactionTemplate.execute(status -> enqueueRange(rangeFrom, rangeFrom + idRange));
+            pollOutboxRelay.wakeUp();
+        }
+        log.info("poll 스냅샷 {}건 outbox에 재기록", queued);
+    }
+
+    // 구간의 poll 행을 커밋할 때까지 잠가 두므로, 그 사이의 수정/삭제는 이 outbox 행들 뒤에 기록됨
+    private int enqueueRange(long fromId, long toId) {
+        pollRepository.lockRange(fromId, toId);
+        Map<Long, PollSnapshotEvent> snapshots = new LinkedHashMap<>();
+        for (Object[] row : pollRepository.findSnapshotRows(fromId, toId)) {
+            PollSnapshotEvent snapshot = snapshots.computeIfAbsent((Long) row[0], pollId -> PollSnapshotEvent.builder()
+                    .pollId(pollId)
+                    .createdBy((String) row[1])
+                    .optionIds(new ArrayList<>())
+                    .question((String) row[3])
+                    .optionTexts(new ArrayList<>())
+                    .build());
+            if (row[2] != null) {
+                snapshot.getOptionIds().add((Long) row[2]);
+                snapshot.getOptionTexts().add((String) row[4]);
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEvent> events = snapshots.values().stream()
+                .map(snapshot -> OutboxEvent.builder()
+                        .messageKey(String.valueOf(snapshot.getPollId()))
+                        .payload(toJson(snapshot))
+                        .createdAt(now)
+                        .build())
+                .toList();
+        if (!events.isEmpty()) {
+            outboxRepository.insertAll(events);
+        }
+        return events.size();
+    }
+
+    private String toJson(PollSnapshotEvent snapshot) {
+        try {
+            return objectMapper.writeValueAsString(snapshot);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize poll snapshot pollId=" + snapshot.getPollId(), e);
+        }
+    }
+}
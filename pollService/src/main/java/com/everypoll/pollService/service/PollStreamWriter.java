@@ -0,0 +1,80 @@
+package com.everypoll.pollService.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.concurrent.Semaphore;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.everypoll.pollService.dto.PollResponse;
+import com.everypoll.pollService.exception.PollStreamLimitException;
+import com.everypoll.pollService.repository.PollQueryRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * 전체 poll 내보내기 (application/x-ndjson, 한 줄에 poll 하나).
+ * 읽기 전용 트랜잭션에서 DB 커서로 읽은 poll을 바로 응답에 쓰므로 poll 수와 관계없이 메모리 사용량이 일정하다.
+ * 스트림 하나가 끝날 때까지 DB 연결을 잡고 있으므로 동시에 열 수 있는 스트림 수를 제한한다.
+ */
+@Component
+public class PollStreamWriter {
+
+    private final PollQueryRepository pollQueryRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ObjectWriter pollWriter;
+    private final int fetchSize;
+    private final int clearEvery;
+    private final int maxConcurrent;
+    private final Semaphore permits;
+
+    public PollStreamWriter(PollQueryRepository pollQueryRepository, PlatformTransactionManager transactionManager,
+            ObjectMapper objectMapper,
+            @Value("${poll.stream.fetch-size:-2147483648}") int fetchSize,
+            @Value("${poll.stream.clear-every:1000}") int clearEvery,
+            @Value("${poll.stream.max-concurrent:2}") int maxConcurrent) {
+        this.pollQueryRepository = pollQueryRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        // poll마다 flush하지 않고 generator 버퍼가 찰 때 내보냄
+        this.pollWriter = objectMapper.writerFor(PollResponse.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.fetchSize = fetchSize;
+        this.clearEvery = Math.max(1, clearEvery);
+        this.maxConcurrent = maxConcurrent;
+        this.permits = new Semaphore(maxConcurrent);
+    }
+
+    // 자리가 없으면 아무것도 쓰기 전에 429, 실제로 쓰는 스레드에서 잡고 놓으므로 시작하지 못한 스트림이 자리를 차지하지 않음
+    public void write(OutputStream outputStream) throws IOException {
+        if (!permits.tryAcquire()) {
+            throw new PollStreamLimitException(maxConcurrent);
+        }
+        try {
+            writeAll(outputStream);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void writeAll(OutputStream outputStream) throws IOException {
+        try (JsonGenerator generator = pollWriter.getFactory().createGenerator(outputStream)) {
+            generator.setRootValueSeparator(new SerializedString("\n"));
+            readOnlyTransaction.executeWithoutResult(status ->
+                    pollQueryRepository.scrollAll(fetchSize, clearEvery, poll -> {
+                        try {
+                            pollWriter.writeValue(generator, poll);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    }));
+            generator.writeRaw('\n');
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.everypoll.pollService.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import com.everypoll.pollService.exception.InvalidPollOptionsException;
+
+// 선택지 수정 시 기존 선택지는 id(투표 집계 키)로 찾아 유지하는지 확인
+@DataJpaTest
+class PollUpdateOptionsTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    // 문구를 고쳐도 id가 그대로여서 그 선택지의 투표가 남음
+    @Test
+    void editingTextKeepsOptionId() {
+        Long pollId = persistPoll("A", "B", "C");
+        Map<String, Long> before = optionIds(pollId);
+
+        Poll poll = entityManager.find(Poll.class, pollId);
+        poll.updateOptions(List.of(option(before.get("A"), "A"), option(before.get("B"), "B2"), option(null, "D")));
+        entityManager.flush();
+        entityManager.clear();
+
+        Map<String, Long> after = optionIds(pollId);
+        assertThat(after).containsOnlyKeys("A", "B2", "D");
+        assertThat(after.get("A")).isEqualTo(before.get("A"));
+        assertThat(after.get("B2")).isEqualTo(before.get("B"));
+        // C의 행은 지워지고 D는 새 id
+        assertThat(after.get("D")).isNotIn(before.values());
+    }
+
+    @Test
+    void unchangedOptionsDoNotTouchPoll() {
+        Long pollId = persistPoll("A", "B");
+        Map<String, Long> before = optionIds(pollId);
+        Poll poll = entityManager.find(Poll.class, pollId);
+        LocalDateTime updatedAt = poll.getUpdatedAt();
+
+        poll.updateOptions(List.of(option(before.get("A"), "A"), option(before.get("B"), "B")));
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(optionIds(pollId)).isEqualTo(before);
+        assertThat(entityManager.find(Poll.class, pollId).getUpdatedAt()).isEqualTo(updatedAt);
+    }
+
+    // 순서는 id 순이라 바꿀 수 없음
+    @Test
+    void rejectsReordering() {
+        Long pollId = persistPoll("A", "B");
+        Map<String, Long> before = optionIds(pollId);
+        Poll poll = entityManager.find(Poll.class, pollId);
+
+        assertThatThrownBy(() -> poll.updateOptions(List.of(option(before.get("B"), "B"), option(before.get("A"), "A"))))
+                .isInstanceOf(InvalidPollOptionsException.class);
+        assertThatThrownBy(() -> poll.updateOptions(List.of(option(before.get("A"), "A"), option(null, "C"), option(before.get("B"), "B"))))
+                .isInstanceOf(InvalidPollOptionsException.class);
+    }
+
+    @Test
+    void rejectsOptionsOfOtherPolls() {
+        Long pollId = persistPoll("A", "B");
+        Long otherOptionId = optionIds(persistPoll("X", "Y")).get("X");
+        Poll poll = entityManager.find(Poll.class, pollId);
+        Long optionA = optionIds(pollId).get("A");
+
+        assertThatThrownBy(() -> poll.updateOptions(List.of(option(optionA, "A"), option(otherOptionId, "X"))))
+                .isInstanceOf(InvalidPollOptionsException.class);
+        assertThatThrownBy(() -> poll.updateOptions(List.of(option(optionA, "A"), option(optionA, "A"))))
+                .isInstanceOf(InvalidPollOptionsException.class);
+    }
+
+    private Long persistPoll(String... optionTexts) {
+        Poll poll = Poll.builder().question("question").createdBy("1").build();
+        for (String optionText : optionTexts) {
+            poll.addOption(PollOption.builder().optionText(optionText).build());
+        }
+        entityManager.persist(poll);
+        entityManager.flush();
+        entityManager.clear();
+        return poll.getId();
+    }
+
+    private Map<String, Long> optionIds(Long pollId) {
+        return entityManager.find(Poll.class, pollId).getOptions().stream()
+                .collect(Collectors.toMap(PollOption::getOptionText, PollOption::getId));
+    }
+
+    private static PollOption option(Long id, String optionText) {
+        return PollOption.builder().id(id).optionText(optionText).build();
+    }
+}
@@ -0,0 +1,66 @@
+package com.everypoll.pollService.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.everypoll.pollService.dto.PollCreateRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// batch insert가 돌려준 id가 요청 순서와 맞는지 (각 id의 행 내용이 같은 위치의 요청과 같은지) 확인
+@DataJpaTest
+@Import(PollJdbcRepository.class)
+class PollJdbcRepositoryTest {
+
+    private static final int POLLS = 300;
+
+    @Autowired
+    private PollJdbcRepository pollJdbcRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void generatedIdsFollowRequestOrder() throws Exception {
+        List<PollCreateRequest> requests = new ArrayList<>();
+        ObjectMapper objectMapper = new ObjectMapper();
+        for (int i = 0; i < POLLS; i++) {
+            // 선택지 수를 poll마다 다르게 해서 선택지 id를 poll별로 나누는 경계도 확인
+            List<String> optionTexts = new ArrayList<>();
+            for (int j = 0; j < 2 + i % 3; j++) {
+                optionTexts.add("option " + i + "-" + j);
+            }
+            requests.add(objectMapper.convertValue(
+                    Map.of("question", "question " + i, "optionTexts", optionTexts), PollCreateRequest.class));
+        }
+
+        // 앞 batch가 만든 id 뒤로 이어지는 두 번째 batch도 순서가 맞아야 함
+        List<Long> first = pollJdbcRepository.insertPolls(requests.subList(0, POLLS / 2), "1", LocalDateTime.now());
+        List<Long> second = pollJdbcRepository.insertPolls(requests.subList(POLLS / 2, POLLS), "1", LocalDateTime.now());
+        List<Long> pollIds = new ArrayList<>(first);
+        pollIds.addAll(second);
+        List<List<Long>> optionIds = pollJdbcRepository.insertOptions(pollIds, requests);
+
+        assertThat(pollIds).hasSize(POLLS).doesNotHaveDuplicates();
+        for (int i = 0; i < POLLS; i++) {
+            assertThat(jdbcTemplate.queryForObject("select question from poll where id = ?", String.class, pollIds.get(i)))
+                    .isEqualTo("question " + i);
+            List<String> optionTexts = requests.get(i).getOptionTexts();
+            assertThat(optionIds.get(i)).hasSize(optionTexts.size());
+            for (int j = 0; j < optionTexts.size(); j++) {
+                assertThat(jdbcTemplate.queryForMap("select poll_id, option_text from poll_option where id = ?", optionIds.get(i).get(j)))
+                        .containsEntry("poll_id", pollIds.get(i))
+                        .containsEntry("option_text", optionTexts.get(j));
+            }
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.everypoll.pollService.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import com.everypoll.pollService.dto.OptionResponse;
+import com.everypoll.pollService.dto.PollResponse;
+import com.everypoll.pollService.model.Poll;
+import com.everypoll.pollService.model.PollOption;
+
+// poll 읽기 경로가 poll 수와 관계없이 일정한 수의 SQL만 실행하는지 Hibernate 통계로 확인
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(PollQueryRepository.class)
+class PollQueryRepositoryTest {
+
+    private static final int POLLS = 20;
+    private static final int OPTIONS_PER_POLL = 3;
+
+    @Autowired
+    private PollQueryRepository pollQueryRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < POLLS; i++) {
+            Poll poll = Poll.builder()
+                    .question("question " + i)
+                    .createdBy(String.valueOf(i))
+                    .build();
+            for (int j = 0; j < OPTIONS_PER_POLL; j++) {
+                poll.addOption(PollOption.builder().optionText("option " + i + "-" + j).build());
+            }
+            entityManager.persist(poll);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void findAllRunsTwoStatementsForAnyNumberOfPolls() {
+        List<PollResponse> polls = pollQueryRepository.findAll();
+
+        assertThat(polls).hasSize(POLLS);
+        assertThat(polls).allSatisfy(poll -> assertThat(poll.getOptions()).hasSize(OPTIONS_PER_POLL));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void findByIdRunsTwoStatements() {
+        Long pollId = pollQueryRepository.findAll().get(0).getId();
+        statistics.clear();
+
+        PollResponse poll = pollQueryRepository.findById(pollId).orElseThrow();
+
+        assertThat(poll.getOptions()).extracting(OptionResponse::getOptionText)
+                .containsExactly("option 0-0", "option 0-1", "option 0-2");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void findByIdOfMissingPollRunsOneStatement() {
+        assertThat(pollQueryRepository.findById(Long.MAX_VALUE)).isEmpty();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void scrollAllGroupsOptionsIntoPollsWithOneStatement() {
+        Poll empty = Poll.builder().question("no options").createdBy("0").build();
+        entityManager.persist(empty);
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        List<PollResponse> polls = new ArrayList<>();
+        pollQueryRepository.scrollAll(10, 7, polls::add);
+
+        assertThat(polls).hasSize(POLLS + 1);
+        assertThat(polls.subList(0, POLLS)).allSatisfy(poll -> assertThat(poll.getOptions()).hasSize(OPTIONS_PER_POLL));
+        assertThat(polls.get(POLLS).getQuestion()).isEqualTo("no options");
+        assertThat(polls.get(POLLS).getOptions()).isEmpty();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+}
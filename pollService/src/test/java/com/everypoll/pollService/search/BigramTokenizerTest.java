@@ -0,0 +1,31 @@
+package com.everypoll.pollService.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class BigramTokenizerTest {
+
+    @Test
+    void splitsEachRunIntoOverlappingBigrams() {
+        assertThat(BigramTokenizer.tokenize("좋아요 투표")).containsExactly("좋아", "아요", "투표");
+    }
+
+    @Test
+    void keepsSingleCharacterRunsAndDropsPunctuation() {
+        assertThat(BigramTokenizer.tokenize("a, 책! 100%")).containsExactly("a", "책", "10", "00");
+    }
+
+    @Test
+    void normalizesWidthAndCase() {
+        // 전각 문자와 대문자는 NFKC + 소문자로 같은 bigram이 됨
+        assertThat(BigramTokenizer.tokenize("ＪＡＶＡ")).isEqualTo(BigramTokenizer.tokenize("java"));
+    }
+
+    @Test
+    void keepsDuplicatesForTermFrequency() {
+        assertThat(BigramTokenizer.tokenize("하하하")).containsExactly("하하", "하하");
+        assertThat(BigramTokenizer.tokenize(null)).isEmpty();
+        assertThat(BigramTokenizer.tokenize(" !? ")).isEmpty();
+    }
+}
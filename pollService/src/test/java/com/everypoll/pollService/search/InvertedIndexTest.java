@@ -0,0 +1,69 @@
+package com.everypoll.pollService.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class InvertedIndexTest {
+
+    private static final double COMMON_RATIO = 0.05;
+
+    @Test
+    void ranksMoreFrequentAndShorterMatchesFirst() {
+        InvertedIndex index = new InvertedIndex();
+        index.put(1, "고양이 사료 추천 받아요 고양이 간식도 궁금해요");
+        index.put(2, "고양이 사료 추천 받아요 강아지 간식도 궁금해요");
+        index.put(3, "고양이");
+        index.put(4, "강아지 산책 시간");
+
+        // 3은 단어 빈도가 1이지만 가장 짧고, 1은 2보다 빈도가 높음
+        assertThat(pollIds(index.search("고양이", 10, COMMON_RATIO))).containsExactly(3L, 1L, 2L);
+    }
+
+    @Test
+    void commonTermsOnlyScoreRareCandidates() {
+        InvertedIndex index = new InvertedIndex();
+        for (long pollId = 1; pollId <= 100; pollId++) {
+            index.put(pollId, pollId % 4 == 0 ? "점심 메뉴 투표" : "저녁 모임 장소");
+        }
+        index.put(101, "점심 메뉴 투표 마라탕");
+        index.put(102, "마라탕 맛집 추천해");
+
+        // "점심"은 흔해서 후보를 늘리지 않고 마라탕이 나온 문서의 점수만 더함 (두 문서 길이는 같음)
+        List<InvertedIndex.Hit> hits = index.search("점심 마라탕", 10, COMMON_RATIO);
+
+        assertThat(pollIds(hits)).containsExactly(101L, 102L);
+        assertThat(hits.get(0).score()).isGreaterThan(hits.get(1).score());
+    }
+
+    @Test
+    void commonOnlyQueriesScoreEveryMatch() {
+        InvertedIndex index = new InvertedIndex();
+        for (long pollId = 1; pollId <= 40; pollId++) {
+            index.put(pollId, pollId % 2 == 0 ? "주말 영화 추천" : "주말 등산 코스");
+        }
+
+        // 흔한 단어만 있으면 가장 드문 단어로 후보를 정하고 배열 누적으로 나머지 점수를 더함
+        assertThat(pollIds(index.search("영화 추천", 50, COMMON_RATIO))).hasSize(20).allMatch(pollId -> pollId % 2 == 0);
+    }
+
+    @Test
+    void updatedAndRemovedPollsDropOldText() {
+        InvertedIndex index = new InvertedIndex();
+        index.put(1, "여름 휴가");
+        index.put(2, "여름 휴가 계획");
+        index.put(1, "겨울 여행");
+        index.remove(2);
+
+        assertThat(index.search("여름", 10, COMMON_RATIO)).isEmpty();
+        assertThat(pollIds(index.search("겨울", 10, COMMON_RATIO))).containsExactly(1L);
+        assertThat(index.liveCount()).isEqualTo(1);
+        assertThat(index.deletedRatio()).isEqualTo(2.0 / 3);
+    }
+
+    private static List<Long> pollIds(List<InvertedIndex.Hit> hits) {
+        return hits.stream().map(InvertedIndex.Hit::pollId).toList();
+    }
+}
@@ -0,0 +1,65 @@
+package com.everypoll.pollService.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+// 건너뛰기 지점(128항목)을 여러 번 넘도록 항목을 넣고 전체/후보 순회를 확인
+class PostingListTest {
+
+    private static final int ENTRIES = 1000;
+
+    @Test
+    void decodesAllEntriesInOrder() {
+        PostingList postingList = postingList();
+
+        List<int[]> visited = new ArrayList<>();
+        postingList.forEach((docId, tf) -> visited.add(new int[] { docId, tf }));
+
+        assertThat(visited).hasSize(ENTRIES + 1);
+        for (int i = 0; i < ENTRIES; i++) {
+            assertThat(visited.get(i)).containsExactly(i * 3, frequency(i));
+        }
+        // 여러 바이트 varint (차이와 빈도 모두 127 초과)
+        assertThat(visited.get(ENTRIES)).containsExactly(1_000_000, 100_000);
+    }
+
+    @Test
+    void visitsOnlyCandidatesThatContainTheTerm() {
+        PostingList postingList = postingList();
+        // 없는 문서(4, 601), 블록 경계(381, 384), 뒤쪽 블록과 마지막 항목
+        int[] candidates = { 0, 3, 4, 381, 384, 600, 601, 2997, 1_000_000, 2_000_000 };
+
+        List<int[]> visited = new ArrayList<>();
+        postingList.forEachIn(candidates, candidates.length, (docId, tf) -> visited.add(new int[] { docId, tf }));
+
+        assertThat(visited).extracting(entry -> entry[0]).containsExactly(0, 3, 381, 384, 600, 2997, 1_000_000);
+        assertThat(visited.get(5)).containsExactly(2997, frequency(999));
+        assertThat(visited.get(6)).containsExactly(1_000_000, 100_000);
+    }
+
+    @Test
+    void rejectsNonIncreasingDocIds() {
+        PostingList postingList = new PostingList();
+        postingList.add(5, 1);
+
+        assertThatThrownBy(() -> postingList.add(5, 1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static PostingList postingList() {
+        PostingList postingList = new PostingList();
+        for (int i = 0; i < ENTRIES; i++) {
+            postingList.add(i * 3, frequency(i));
+        }
+        postingList.add(1_000_000, 100_000);
+        return postingList;
+    }
+
+    private static int frequency(int i) {
+        return i % 5 + 1;
+    }
+}
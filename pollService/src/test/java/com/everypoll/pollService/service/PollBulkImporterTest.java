@@ -0,0 +1,51 @@
+package com.everypoll.pollService.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.everypoll.pollService.dto.PollBulkError;
+import com.everypoll.pollService.dto.PollBulkResponse;
+import com.everypoll.pollService.repository.PollJdbcRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.validation.Validation;
+
+// DB는 mock으로 두고 chunk 실패가 응답에 어떻게 드러나는지만 확인
+class PollBulkImporterTest {
+
+    @Test
+    void failedChunkReportsGenericMessage() throws Exception {
+        PollJdbcRepository pollJdbcRepository = mock(PollJdbcRepository.class);
+        when(pollJdbcRepository.insertPolls(anyList(), anyString(), any()))
+                .thenThrow(new DataIntegrityViolationException("Duplicate entry 'x' for key 'poll.UK_question'; SQL [INSERT INTO poll ...]"));
+        PollBulkImporter importer = new PollBulkImporter(pollJdbcRepository,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), mock(ApplicationEventPublisher.class),
+                new ObjectMapper(), Validation.buildDefaultValidatorFactory().getValidator());
+        ReflectionTestUtils.setField(importer, "chunkSize", 10);
+
+        String body = "[{\"question\":\"q\",\"optionTexts\":[\"a\",\"b\"]},{\"question\":\"\",\"optionTexts\":[\"a\",\"b\"]}]";
+        PollBulkResponse response = importer.importPolls(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), "1");
+
+        assertThat(response.getCreated()).isZero();
+        assertThat(response.getErrors()).extracting(PollBulkError::getIndex).containsExactlyInAnyOrder(0, 1);
+        assertThat(response.getErrors()).filteredOn(error -> error.getIndex() == 0)
+                .extracting(PollBulkError::getMessage).containsExactly(PollBulkImporter.CHUNK_FAILED_MESSAGE);
+        // 검증 오류는 그대로 알려 줌
+        assertThat(response.getErrors()).filteredOn(error -> error.getIndex() == 1)
+                .extracting(PollBulkError::getMessage).containsExactly("질문은 비어 있을 수 없습니다.");
+    }
+}
@@ -0,0 +1,100 @@
+package com.everypoll.pollService.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.everypoll.common.dto.PollSnapshotEvent;
+import com.everypoll.pollService.model.OutboxEvent;
+import com.everypoll.pollService.repository.OutboxJdbcRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// outbox 저장소와 producer는 mock으로 두고 relay의 claim -> 전송 -> 삭제 순서만 확인
+class PollOutboxRelayTest {
+
+    private OutboxJdbcRepository outboxRepository;
+    private KafkaProducerService kafkaProducerService;
+    private PollOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        outboxRepository = mock(OutboxJdbcRepository.class);
+        kafkaProducerService = mock(KafkaProducerService.class);
+        relay = new PollOutboxRelay(outboxRepository, kafkaProducerService, mock(PlatformTransactionManager.class),
+                new ObjectMapper());
+        ReflectionTestUtils.setField(relay, "batchSize", 10);
+        when(kafkaProducerService.sendPollSnapshot(anyLong(), any())).thenReturn(CompletableFuture.completedFuture(null));
+    }
+
+    @Test
+    void sendsLatestSnapshotPerPollThenDeletesClaimedRows() {
+        when(outboxRepository.findHeadId()).thenReturn(1L);
+        when(outboxRepository.claimBatch(anyInt())).thenReturn(List.of(
+                event(1L, "7", "{\"pollId\":7,\"question\":\"old\"}"),
+                event(2L, "8", "{\"pollId\":8,\"question\":\"q\"}"),
+                event(3L, "7", null)));
+
+        assertThat(relay.relay()).isEqualTo(3);
+
+        // 같은 poll은 마지막 행(삭제 tombstone)만 보내고, 전송이 끝난 뒤 claim한 행을 전부 지움
+        InOrder order = inOrder(kafkaProducerService, outboxRepository);
+        order.verify(kafkaProducerService).sendPollSnapshot(eq(8L), any(PollSnapshotEvent.class));
+        order.verify(kafkaProducerService).sendPollSnapshot(eq(7L), isNull());
+        order.verify(kafkaProducerService).flush();
+        order.verify(outboxRepository).deleteAll(List.of(1L, 2L, 3L));
+        verify(kafkaProducerService, never()).sendPollSnapshot(eq(7L), any(PollSnapshotEvent.class));
+    }
+
+    @Test
+    void waitsWhileAnotherRelayHoldsTheHead() {
+        // 가장 오래된 행(1)을 다른 인스턴스가 잠가 SKIP LOCKED로 2부터 읽힌 경우
+        when(outboxRepository.findHeadId()).thenReturn(1L);
+        when(outboxRepository.claimBatch(anyInt())).thenReturn(List.of(event(2L, "7", null)));
+
+        assertThat(relay.relay()).isZero();
+
+        verify(kafkaProducerService, never()).sendPollSnapshot(anyLong(), any());
+        verify(outboxRepository, never()).deleteAll(anyList());
+    }
+
+    @Test
+    void failedSendKeepsRows() {
+        when(outboxRepository.findHeadId()).thenReturn(1L);
+        when(outboxRepository.claimBatch(anyInt())).thenReturn(List.of(event(1L, "7", null)));
+        when(kafkaProducerService.sendPollSnapshot(anyLong(), any()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+
+        assertThatThrownBy(relay::relay).isInstanceOf(IllegalStateException.class);
+
+        verify(outboxRepository, never()).deleteAll(anyList());
+    }
+
+    private static OutboxEvent event(Long id, String messageKey, String payload) {
+        return OutboxEvent.builder()
+                .id(id)
+                .messageKey(messageKey)
+                .payload(payload)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
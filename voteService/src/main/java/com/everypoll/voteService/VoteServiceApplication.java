@@ -2,8 +2,12 @@ package com.everypoll.voteService;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.kafka.annotation.EnableKafka;
 
-@SpringBootApplication
+@EnableJpaAuditing
+@EnableKafka
+@SpringBootApplication(scanBasePackages = {"com.everypoll.voteService", "com.everypoll.common"})
 public class VoteServiceApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,62 @@
+package com.everypoll.voteService.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.kafka.ConcurrentKafkaListenerContainerFactoryConfigurer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.util.backoff.ExponentialBackOff;
+
+import com.everypoll.voteService.service.PollOwnership;
+
+@Configuration
+public class KafkaConsumerConfig {
+
+    // 파티션마다 consumer 스레드 하나가 그 파티션 poll들의 단일 writer가 되도록 스레드 수를 맞춤
+    @Value("${vote.kafka.consumer-concurrency:3}")
+    private int concurrency;
+
+    // 투표 batch 저장 재시도 간격, 실패할 때마다 두 배씩 늘어 최대 간격까지
+    @Value("${vote.kafka.retry-initial-ms:500}")
+    private long retryInitialMs;
+
+    @Value("${vote.kafka.retry-max-interval-ms:30000}")
+    private long retryMaxIntervalMs;
+
+    @Value("${vote.catalog.idle-ms:1000}")
+    private long catalogIdleMs;
+
+    // vote-cast 리스너 전용: 기본 설정에 동시성과 파티션 이전 처리(PollOwnership)를 더함
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<Object, Object> voteCastListenerContainerFactory(
+            ConcurrentKafkaListenerContainerFactoryConfigurer configurer, ConsumerFactory<Object, Object> consumerFactory,
+            PollOwnership pollOwnership) {
+        ConcurrentKafkaListenerContainerFactory<Object, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        configurer.configure(factory, consumerFactory);
+        factory.setConcurrency(concurrency);
+        factory.getContainerProperties().setConsumerRebalanceListener(pollOwnership);
+        factory.setCommonErrorHandler(voteCastErrorHandler());
+        return factory;
+    }
+
+    // 투표는 이미 202로 응답했으므로 저장에 실패한 batch를 건너뛰지 않고 성공할 때까지 다시 시도함
+    // (기본 error handler는 몇 번 재시도한 뒤 batch를 버림, 재시도 중에는 consumer를 멈춘 채 poll해서 rebalance되지 않음)
+    private DefaultErrorHandler voteCastErrorHandler() {
+        ExponentialBackOff backOff = new ExponentialBackOff(retryInitialMs, 2.0);
+        backOff.setMaxInterval(retryMaxIntervalMs);
+        backOff.setMaxElapsedTime(Long.MAX_VALUE);
+        return new DefaultErrorHandler(backOff);
+    }
+
+    // poll 스냅샷 리스너 전용: 토픽을 다 읽고 한가해지면 idle 이벤트로 복제본 준비 완료를 알림
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<Object, Object> pollSnapshotListenerContainerFactory(
+            ConcurrentKafkaListenerContainerFactoryConfigurer configurer, ConsumerFactory<Object, Object> consumerFactory) {
+        ConcurrentKafkaListenerContainerFactory<Object, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        configurer.configure(factory, consumerFactory);
+        factory.getContainerProperties().setIdleEventInterval(catalogIdleMs);
+        return factory;
+    }
+}
@@ -0,0 +1,35 @@
+package com.everypoll.voteService.config;
+
+import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+
+@Configuration
+public class KafkaTopicConfig {
+
+    public static final String VOTE_CAST_TOPIC = "vote-cast-topic";
+    public static final String VOTE_TALLY_TOPIC = "vote-tally-topic";
+    // pollService가 만드는 압축 토픽 (pollId -> poll/선택지 스냅샷)
+    public static final String POLL_SNAPSHOT_TOPIC = "poll-snapshot-topic";
+
+    @Value("${vote.kafka.partitions:3}")
+    private int partitions;
+
+    // pollId를 key로 쓰므로 같은 투표의 이벤트는 항상 같은 파티션에 순서대로 쌓임
+    @Bean
+    public NewTopic voteCastTopic() {
+        return TopicBuilder.name(VOTE_CAST_TOPIC)
+                .partitions(partitions)
+                .build();
+    }
+
+    // 저장된 투표 증분을 모든 인스턴스에 퍼뜨리는 토픽 (실시간 결과 스트림용)
+    @Bean
+    public NewTopic voteTallyTopic() {
+        return TopicBuilder.name(VOTE_TALLY_TOPIC)
+                .partitions(partitions)
+                .build();
+    }
+}
@@ -1,5 +1,151 @@
 package com.everypoll.voteService.controller;
 
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.everypoll.common.config.RateLimitFilter;
+import com.everypoll.voteService.dto.HotPollResponse;
+import com.everypoll.voteService.dto.IdempotencyStatsResponse;
+import com.everypoll.voteService.dto.PollResultView;
+import com.everypoll.voteService.dto.ReconcileStatsResponse;
+import com.everypoll.voteService.dto.TrendingPollResponse;
+import com.everypoll.voteService.dto.VoteRequest;
+import com.everypoll.voteService.dto.VoteResponse;
+import com.everypoll.voteService.dto.VoterFilterStatsResponse;
+import com.everypoll.voteService.service.TrendingService;
+import com.everypoll.voteService.service.VoteExportFormat;
+import com.everypoll.voteService.service.VoteExportService;
+import com.everypoll.voteService.service.TrendingWindow;
+import com.everypoll.voteService.service.VoteService;
+import com.everypoll.voteService.service.VoteStreamService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("api/votes")
+@RequiredArgsConstructor
 public class VoteController {
-    
+
+    private final VoteService voteService;
+    private final VoteStreamService voteStreamService;
+    private final TrendingService trendingService;
+    private final VoteExportService voteExportService;
+    private final ObjectMapper objectMapper;
+    private static final Logger logger = LoggerFactory.getLogger(VoteController.class);
+
+    @PostMapping
+    public ResponseEntity<VoteResponse> castVote(@Valid @RequestBody VoteRequest request, @AuthenticationPrincipal UserDetails userDetails,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
+        // JWT subject가 사용자 id
+        Long userId = Long.parseLong(userDetails.getUsername());
+        logger.info("투표 poll: {} option: {} user: {}", request.getPollId(), request.getOptionId(), userId);
+
+        VoteResponse voteResponse = voteService.castVote(request, userId, idempotencyKey);
+
+        return ResponseEntity.accepted().body(voteResponse); // 202 accepted, 저장은 비동기
+    }
+
+    // 최근 구간(5m, 15m, 1h)에서 투표가 빠르게 늘고 있는 poll 순위
+    @GetMapping("/trending")
+    public ResponseEntity<List<TrendingPollResponse>> getTrending(@RequestParam(defaultValue = "1h") String window,
+            @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(trendingService.getTrending(TrendingWindow.from(window), limit));
+    }
+
+    // 여러 poll의 결과를 한 번에 조회, 응답은 중간 객체 없이 바로 출력 스트림에 씀
+    @GetMapping("/results")
+    public ResponseEntity<StreamingResponseBody> getResults(@RequestParam List<Long> pollIds) {
+        logger.info("투표 결과 일괄 조회 poll {}개", pollIds.size());
+        Map<Long, Map<Long, Long>> results = voteService.getResults(pollIds);
+
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.writeStartArray();
+                for (Map.Entry<Long, Map<Long, Long>> result : results.entrySet()) {
+                    generator.writeStartObject();
+                    generator.writeNumberField("pollId", result.getKey());
+                    generator.writeNumberField("totalVotes", result.getValue().values().stream().mapToLong(Long::longValue).sum());
+                    generator.writeArrayFieldStart("options");
+                    for (Map.Entry<Long, Long> option : result.getValue().entrySet()) {
+                        generator.writeStartObject();
+                        generator.writeNumberField("optionId", option.getKey());
+                        generator.writeNumberField("voteCount", option.getValue());
+                        generator.writeEndObject();
+                    }
+                    generator.writeEndArray();
+                    generator.writeEndObject();
+                }
+                generator.writeEndArray();
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body); // 200 ok
+    }
+
+    @GetMapping("/{pollId}")
+    public ResponseEntity<PollResultView> getResults(@PathVariable Long pollId) {
+        logger.info("투표 결과 조회 poll: {}", pollId);
+        return ResponseEntity.ok(voteService.getResults(pollId)); // 200 ok
+    }
+
+    // poll 작성자만 투표 원본을 csv 또는 ndjson으로 내려받음, DB 커서에서 바로 응답으로 흘려보냄
+    @GetMapping("/{pollId}/export")
+    public ResponseEntity<StreamingResponseBody> exportVotes(@PathVariable Long pollId, @RequestParam(defaultValue = "csv") String format,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        Long userId = Long.parseLong(userDetails.getUsername());
+        VoteExportFormat exportFormat = VoteExportFormat.from(format);
+        logger.info("투표 내보내기 poll: {} format: {} user: {}", pollId, exportFormat.getLabel(), userId);
+
+        StreamingResponseBody body = voteExportService.export(pollId, userId, exportFormat);
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"poll-" + pollId + "-votes." + exportFormat.getLabel() + "\"")
+                .body(body); // 200 ok
+    }
+
+    // 실시간 결과: 처음에 현재 집계(snapshot), 이후 짧은 구간마다 합쳐진 증분(delta)
+    @GetMapping(value = "/{pollId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamResults(@PathVariable Long pollId, HttpServletRequest request) {
+        logger.info("투표 결과 스트림 구독 poll: {}", pollId);
+        // 구독을 먼저 등록한 뒤 snapshot을 읽음 (그 사이의 증분을 놓치지 않도록), 동시 구독 수는 요청 제한과 같은 키로 셈
+        return voteStreamService.subscribe(pollId, RateLimitFilter.clientKey(request), () -> voteService.getResults(pollId));
+    }
+
+    // 중복 투표 비트맵의 메모리 사용량 (투표자 100만 명당 바이트 포함)
+    @GetMapping("/admin/voter-filter")
+    public ResponseEntity<VoterFilterStatsResponse> getVoterFilterStats() {
+        return ResponseEntity.ok(voteService.getVoterFilterStats());
+    }
+
+    // 현재 slot으로 나눠 쓰고 있는 인기 poll 목록 (초당 투표 수 순)
+    @GetMapping("/admin/hot-polls")
+    public ResponseEntity<List<HotPollResponse>> getHotPolls() {
+        return ResponseEntity.ok(voteService.getHotPolls());
+    }
+
+    // Idempotency-Key 캐시 적중률
+    @GetMapping("/admin/idempotency")
+    public ResponseEntity<IdempotencyStatsResponse> getIdempotencyStats() {
+        return ResponseEntity.ok(voteService.getIdempotencyStats());
+    }
+
+    // votes와 vote_counts 정합성 검사 결과 (검사/보류/수정된 poll 수, 어긋난 투표 수)
+    @GetMapping("/admin/reconcile")
+    public ResponseEntity<ReconcileStatsResponse> getReconcileStats() {
+        return ResponseEntity.ok(voteService.getReconcileStats());
+    }
 }
@@ -0,0 +1,16 @@
+package com.everypoll.voteService.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor(access = AccessLevel.PRIVATE) // 빌더를 통해서만 생성하도록 강제
+public class HotPollResponse {
+    private Long pollId;
+    private int slots;
+    private double votesPerSecond;
+    private long hotSince;
+}
@@ -0,0 +1,29 @@
+package com.everypoll.voteService.dto;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor(access = AccessLevel.PRIVATE) // 빌더를 통해서만 생성하도록 강제
+public class IdempotencyStatsResponse {
+    private long size;
+    private long hitCount;
+    private long missCount;
+    private double hitRate;
+    private long evictionCount;
+
+    public static IdempotencyStatsResponse of(long size, CacheStats stats) {
+        return IdempotencyStatsResponse.builder()
+                .size(size)
+                .hitCount(stats.hitCount())
+                .missCount(stats.missCount())
+                .hitRate(stats.hitRate())
+                .evictionCount(stats.evictionCount())
+                .build();
+    }
+}
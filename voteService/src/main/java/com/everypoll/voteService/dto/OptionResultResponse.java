@@ -0,0 +1,15 @@
+package com.everypoll.voteService.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor(access = AccessLevel.PRIVATE) // 빌더를 통해서만 생성하도록 강제
+public class OptionResultResponse {
+    private Long optionId;
+    private long voteCount;
+    private double percentage;
+}
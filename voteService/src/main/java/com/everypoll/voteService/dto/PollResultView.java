@@ -0,0 +1,40 @@
+package com.everypoll.voteService.dto;
+
+import java.util.List;
+import java.util.Map;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * poll 결과 읽기 모델. 총합, 선택지별 투표 수와 비율, 마지막 갱신 시각을 미리 계산해 둔다.
+ * 투표가 반영될 때마다 카운터 값(다른 노드의 poll은 받은 집계)으로 새 뷰를 만들고, 조회는 캐시에서 꺼내 그대로 직렬화한다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor(access = AccessLevel.PRIVATE) // 빌더를 통해서만 생성하도록 강제
+public class PollResultView {
+    private Long pollId;
+    private long totalVotes;
+    private List<OptionResultResponse> options;
+    private long updatedAt;
+
+    public static PollResultView of(Long pollId, Map<Long, Long> counts, long updatedAt) {
+        long total = counts.values().stream().mapToLong(Long::longValue).sum();
+        return PollResultView.builder()
+                .pollId(pollId)
+                .totalVotes(total)
+                .options(counts.entrySet().stream()
+                        .map(entry -> OptionResultResponse.builder()
+                                .optionId(entry.getKey())
+                                .voteCount(entry.getValue())
+                                // 소수 첫째 자리까지의 백분율
+                                .percentage(total == 0 ? 0 : Math.round(entry.getValue() * 1000.0 / total) / 10.0)
+                                .build())
+                        .toList())
+                .updatedAt(updatedAt)
+                .build();
+    }
+}
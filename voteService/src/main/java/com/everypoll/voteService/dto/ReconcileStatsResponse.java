@@ -0,0 +1,22 @@
+package com.everypoll.voteService.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor(access = AccessLevel.PRIVATE) // 빌더를 통해서만 생성하도록 강제
+public class ReconcileStatsResponse {
+    private LocalDateTime watermark;
+    private long runs;
+    private long pollsChecked;
+    private long pollsDeferred;
+    private long pollsRepaired;
+    private long votesDrifted;
+    private long lastRunMillis;
+    private long lastRunPolls;
+}
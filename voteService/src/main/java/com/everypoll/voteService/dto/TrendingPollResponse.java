@@ -0,0 +1,15 @@
+package com.everypoll.voteService.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor(access = AccessLevel.PRIVATE) // 빌더를 통해서만 생성하도록 강제
+public class TrendingPollResponse {
+    private Long pollId;
+    private double votesPerMinute; // 최근 분일수록 가중치가 큰 감쇠 평균
+    private long votes;            // 구간 안의 투표 수
+}
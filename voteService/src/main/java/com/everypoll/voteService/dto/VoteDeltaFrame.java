@@ -0,0 +1,20 @@
+package com.everypoll.voteService.dto;
+
+import java.util.Map;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+// SSE로 내보내는 한 구간(coalesce window) 동안의 선택지별 증가량
+@Getter
+@Builder
+@AllArgsConstructor(access = AccessLevel.PRIVATE) // 빌더를 통해서만 생성하도록 강제
+public class VoteDeltaFrame {
+    private Long pollId;
+    private Map<Long, Long> deltas;
+    // 이 frame을 반영한 뒤의 총 투표 수 (snapshot과 비교하는 버전)
+    private long totalVotes;
+    private long emittedAt;
+}
@@ -0,0 +1,15 @@
+package com.everypoll.voteService.dto;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class VoteRequest {
+    @NotNull(message = "투표 id가 비어 있습니다.")
+    private Long pollId;
+
+    @NotNull(message = "선택지 id가 비어 있습니다.")
+    private Long optionId;
+}
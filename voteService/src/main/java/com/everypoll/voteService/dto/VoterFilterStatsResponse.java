@@ -0,0 +1,25 @@
+package com.everypoll.voteService.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor(access = AccessLevel.PRIVATE) // 빌더를 통해서만 생성하도록 강제
+public class VoterFilterStatsResponse {
+    private int pollCount;
+    private long voterCount;
+    private long sizeInBytes;
+    private long bytesPerMillionVoters;
+
+    public static VoterFilterStatsResponse of(int pollCount, long voterCount, long sizeInBytes) {
+        return VoterFilterStatsResponse.builder()
+                .pollCount(pollCount)
+                .voterCount(voterCount)
+                .sizeInBytes(sizeInBytes)
+                .bytesPerMillionVoters(voterCount == 0 ? 0 : sizeInBytes * 1_000_000 / voterCount)
+                .build();
+    }
+}
@@ -0,0 +1,11 @@
+package com.everypoll.voteService.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.CONFLICT)
+public class DuplicateVoteException extends RuntimeException {
+    public DuplicateVoteException(Long pollId, Long userId) {
+        super(String.format("User '%s' has already voted on poll '%s'", userId, pollId));
+    }
+}
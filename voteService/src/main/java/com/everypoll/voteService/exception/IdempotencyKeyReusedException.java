@@ -0,0 +1,11 @@
+package com.everypoll.voteService.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.UNPROCESSABLE_ENTITY)
+public class IdempotencyKeyReusedException extends RuntimeException {
+    public IdempotencyKeyReusedException(String idempotencyKey) {
+        super(String.format("Idempotency key '%s' was already used for a different request", idempotencyKey));
+    }
+}
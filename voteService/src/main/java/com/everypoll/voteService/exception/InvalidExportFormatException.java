@@ -0,0 +1,11 @@
+package com.everypoll.voteService.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidExportFormatException extends RuntimeException {
+    public InvalidExportFormatException(String format) {
+        super(String.format("Unsupported export format '%s' (use csv or ndjson)", format));
+    }
+}
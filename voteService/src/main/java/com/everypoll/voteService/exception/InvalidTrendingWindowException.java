@@ -0,0 +1,11 @@
+package com.everypoll.voteService.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidTrendingWindowException extends RuntimeException {
+    public InvalidTrendingWindowException(String window) {
+        super(String.format("Unsupported trending window '%s' (use 5m, 15m or 1h)", window));
+    }
+}
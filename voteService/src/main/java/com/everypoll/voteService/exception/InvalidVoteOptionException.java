@@ -0,0 +1,11 @@
+package com.everypoll.voteService.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidVoteOptionException extends RuntimeException {
+    public InvalidVoteOptionException(Long pollId, Long optionId) {
+        super(String.format("Option '%s' does not belong to poll '%s'", optionId, pollId));
+    }
+}
@@ -0,0 +1,11 @@
+package com.everypoll.voteService.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class PollCatalogUnavailableException extends RuntimeException {
+    public PollCatalogUnavailableException() {
+        super("Poll catalog is still loading, please retry shortly");
+    }
+}
@@ -0,0 +1,11 @@
+package com.everypoll.voteService.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.FORBIDDEN)
+public class PollExportForbiddenException extends RuntimeException {
+    public PollExportForbiddenException(Long pollId, Long userId) {
+        super(String.format("User '%s' is not the owner of poll '%s'", userId, pollId));
+    }
+}
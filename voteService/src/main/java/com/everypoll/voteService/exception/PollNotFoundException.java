@@ -0,0 +1,11 @@
+package com.everypoll.voteService.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.NOT_FOUND)
+public class PollNotFoundException extends RuntimeException {
+    public PollNotFoundException(Long pollId) {
+        super(String.format("Poll not found with id : '%s'", pollId));
+    }
+}
@@ -0,0 +1,11 @@
+package com.everypoll.voteService.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class TooManyPollIdsException extends RuntimeException {
+    public TooManyPollIdsException(int requested, int max) {
+        super(String.format("Requested %d polls, but at most %d are allowed per request", requested, max));
+    }
+}
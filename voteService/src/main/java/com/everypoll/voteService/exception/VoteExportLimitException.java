@@ -0,0 +1,11 @@
+package com.everypoll.voteService.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+public class VoteExportLimitException extends RuntimeException {
+    public VoteExportLimitException(int limit) {
+        super(String.format("Too many concurrent vote exports (limit %d), please retry later", limit));
+    }
+}
@@ -0,0 +1,11 @@
+package com.everypoll.voteService.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class VoteIngestionException extends RuntimeException {
+    public VoteIngestionException(Long pollId, Throwable cause) {
+        super(String.format("Vote for poll '%s' could not be queued", pollId), cause);
+    }
+}
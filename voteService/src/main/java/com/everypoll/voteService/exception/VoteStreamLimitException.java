@@ -0,0 +1,11 @@
+package com.everypoll.voteService.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+public class VoteStreamLimitException extends RuntimeException {
+    public VoteStreamLimitException(String scope, int limit) {
+        super(String.format("Too many live result streams %s (limit %d), please retry later", scope, limit));
+    }
+}
@@ -0,0 +1,44 @@
+package com.everypoll.voteService.listener;
+
+import java.util.List;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.event.ListenerContainerIdleEvent;
+import org.springframework.stereotype.Component;
+
+import com.everypoll.common.dto.PollSnapshotEvent;
+import com.everypoll.voteService.config.KafkaTopicConfig;
+import com.everypoll.voteService.service.PollCatalog;
+
+@Component
+public class PollSnapshotListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(PollSnapshotListener.class);
+    private static final String LISTENER_ID = "poll-catalog";
+    private final PollCatalog pollCatalog;
+
+    public PollSnapshotListener(PollCatalog pollCatalog) {
+        this.pollCatalog = pollCatalog;
+    }
+
+    // 시작할 때마다 새 group으로 압축 토픽을 처음부터 큰 묶음으로 읽어 복제본을 채움
+    @KafkaListener(id = LISTENER_ID, topics = KafkaTopicConfig.POLL_SNAPSHOT_TOPIC, groupId = "vote-poll-catalog-${random.uuid}",
+            containerFactory = "pollSnapshotListenerContainerFactory", batch = "true",
+            properties = {"auto.offset.reset=earliest", "max.poll.records=5000"})
+    public void handlePollSnapshots(List<ConsumerRecord<String, PollSnapshotEvent>> records) {
+        records.forEach(record -> pollCatalog.apply(Long.valueOf(record.key()), record.value()));
+        logger.debug("poll 스냅샷 {}건 반영", records.size());
+    }
+
+    // 더 읽을 레코드가 없으면 토픽을 따라잡은 것으로 보고 투표 검증을 시작
+    @EventListener
+    public void handleIdle(ListenerContainerIdleEvent event) {
+        if (event.getListenerId().startsWith(LISTENER_ID)) {
+            pollCatalog.markReady();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.everypoll.voteService.listener;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import com.everypoll.common.dto.VoteCastEvent;
+import com.everypoll.common.dto.VoteTallyEvent;
+import com.everypoll.voteService.config.KafkaTopicConfig;
+import com.everypoll.voteService.service.DuplicateVoteFilter;
+import com.everypoll.voteService.service.HotPollDetector;
+import com.everypoll.voteService.service.KafkaProducerService;
+import com.everypoll.voteService.service.PollResultViewCache;
+import com.everypoll.voteService.service.VoteBatchWriter;
+import com.everypoll.voteService.service.VoteCountFlusher;
+import com.everypoll.voteService.service.VoteCounter;
+
+@Component
+public class VoteEventListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(VoteEventListener.class);
+    private final VoteBatchWriter voteBatchWriter;
+    private final PollResultViewCache pollResultViewCache;
+    private final VoteCountFlusher voteCountFlusher;
+    private final DuplicateVoteFilter duplicateVoteFilter;
+    private final KafkaProducerService kafkaProducerService;
+    private final VoteCounter voteCounter;
+    private final HotPollDetector hotPollDetector;
+
+    public VoteEventListener(VoteBatchWriter voteBatchWriter, PollResultViewCache pollResultViewCache, VoteCountFlusher voteCountFlusher,
+            DuplicateVoteFilter duplicateVoteFilter, KafkaProducerService kafkaProducerService, VoteCounter voteCounter,
+            HotPollDetector hotPollDetector) {
+        this.voteBatchWriter = voteBatchWriter;
+        this.pollResultViewCache = pollResultViewCache;
+        this.voteCountFlusher = voteCountFlusher;
+        this.duplicateVoteFilter = duplicateVoteFilter;
+        this.kafkaProducerService = kafkaProducerService;
+        this.voteCounter = voteCounter;
+        this.hotPollDetector = hotPollDetector;
+    }
+
+    // poll 단위로 모인 투표 이벤트를 묶음으로 받아 한 번에 저장
+    // 파티션을 받은 consumer 스레드가 그 파티션 poll들의 단일 writer (PollOwnership)
+    @KafkaListener(topics = KafkaTopicConfig.VOTE_CAST_TOPIC, groupId = "vote-service-group", batch = "true",
+            containerFactory = "voteCastListenerContainerFactory")
+    public void handleVoteCast(List<VoteCastEvent> events) {
+        List<VoteCastEvent> accepted = voteBatchWriter.write(events);
+
+        // 커밋된 투표만 카운터에 올리고, vote_counts는 flusher가 (poll, option)별로 합쳐서 upsert
+        Map<Long, Map<Long, Long>> tallies = new HashMap<>();
+        accepted.forEach(event -> {
+            duplicateVoteFilter.markVoted(event.getPollId(), event.getUserId());
+            tallies.computeIfAbsent(event.getPollId(), id -> new HashMap<>()).merge(event.getOptionId(), 1L, Long::sum);
+        });
+        // 묶음 안에서 (poll, option)별로 합친 값만 올려 저널 레코드 수를 줄임
+        tallies.forEach((pollId, deltas) -> deltas.forEach((optionId, delta) -> {
+            voteCounter.add(pollId, optionId, delta);
+            hotPollDetector.record(pollId, delta);
+        }));
+        voteCountFlusher.requestFlushIfNeeded();
+
+        // poll별 증분을 모든 인스턴스로 퍼뜨림 (실시간 결과 스트림), 다른 노드의 결과 뷰용 전체 집계도 같이 보냄
+        tallies.forEach((pollId, deltas) -> kafkaProducerService.sendVoteTallyEvent(VoteTallyEvent.builder()
+                .pollId(pollId)
+                .deltas(deltas)
+                .totals(voteCounter.getCounts(pollId))
+                .build()));
+        // 위에서 기준값을 읽어 두었으므로 결과 뷰는 메모리의 카운터 값으로 갱신
+        tallies.keySet().forEach(pollResultViewCache::refresh);
+
+        logger.debug("투표 이벤트 {}건 중 {}건 저장", events.size(), accepted.size());
+    }
+}
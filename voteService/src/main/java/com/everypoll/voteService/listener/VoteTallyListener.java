@@ -0,0 +1,41 @@
+package com.everypoll.voteService.listener;
+
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import com.everypoll.common.dto.VoteTallyEvent;
+import com.everypoll.voteService.config.KafkaTopicConfig;
+import com.everypoll.voteService.service.PollOwnership;
+import com.everypoll.voteService.service.PollResultViewCache;
+import com.everypoll.voteService.service.TrendingService;
+import com.everypoll.voteService.service.VoteStreamService;
+
+@Component
+public class VoteTallyListener {
+
+    private final VoteStreamService voteStreamService;
+    private final TrendingService trendingService;
+    private final PollOwnership pollOwnership;
+    private final PollResultViewCache pollResultViewCache;
+
+    public VoteTallyListener(VoteStreamService voteStreamService, TrendingService trendingService,
+            PollOwnership pollOwnership, PollResultViewCache pollResultViewCache) {
+        this.voteStreamService = voteStreamService;
+        this.trendingService = trendingService;
+        this.pollOwnership = pollOwnership;
+        this.pollResultViewCache = pollResultViewCache;
+    }
+
+    // 인스턴스마다 다른 group으로 구독해서 모든 노드가 모든 증분을 받음 (어느 노드든 SSE 구독자를 받을 수 있음)
+    @KafkaListener(topics = KafkaTopicConfig.VOTE_TALLY_TOPIC, groupId = "vote-stream-${random.uuid}",
+            properties = "auto.offset.reset=latest")
+    public void handleVoteTally(VoteTallyEvent event) {
+        voteStreamService.onTally(event);
+        // 증분을 쓴 노드는 이미 뷰를 갱신했으므로, 나머지 노드만 보낸 집계로 맞춤
+        if (!pollOwnership.consumes(event.getPollId())) {
+            pollResultViewCache.applyRemote(event.getPollId(), event.getTotals());
+        }
+        // 인기 순위도 모든 인스턴스가 같은 증분으로 각자 유지
+        trendingService.record(event.getPollId(), event.getDeltas().values().stream().mapToLong(Long::longValue).sum());
+    }
+}
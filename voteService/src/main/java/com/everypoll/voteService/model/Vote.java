@@ -6,21 +6,29 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
 @Getter
+@Builder
+@AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Table(name = "votes", uniqueConstraints = {
         @UniqueConstraint(
             name = "uk_vote_poll_user",
             columnNames = {"poll_id", "user_id"}
         )
+    }, indexes = {
+        // 최근 투표가 들어온 poll만 찾는 정합성 검사용 (created_at 범위 + poll_id 커버링)
+        @Index(name = "idx_vote_created_poll", columnList = "created_at, poll_id")
     })
 public class Vote extends BaseTimeEntity {
     @Id
@@ -7,15 +7,22 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.Table;
-import jakarta.persistence.Version;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+// 집계 행은 VoteCountFlusher만 증분 upsert로 갱신하므로 @Version 낙관적 락을 두지 않음
+// 인기 poll은 선택지마다 여러 slot 행으로 나눠 쓰고, 읽을 때 slot을 모두 더함 (평소에는 slot 0 한 행)
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "vote_counts")
+@Table(name = "vote_counts", uniqueConstraints = {
+        @UniqueConstraint(
+            name = "uk_vote_count_poll_option_slot",
+            columnNames = {"poll_id", "option_id", "slot"}
+        )
+    })
 public class VoteCount {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -27,9 +34,9 @@ public class VoteCount {
     @JoinColumn(name = "option_id", nullable = false)
     private Long optionId;
 
-    @Column(name = "vote_count", nullable = false)
-    private int voteCount = 0;
+    @Column(name = "slot", nullable = false)
+    private int slot = 0;
 
-    @Version
-    private Long version;
+    @Column(name = "vote_count", nullable = false)
+    private long voteCount = 0;
 }
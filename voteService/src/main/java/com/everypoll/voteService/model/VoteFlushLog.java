@@ -0,0 +1,23 @@
+package com.everypoll.voteService.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 노드(집계 저널)별로 마지막으로 커밋된 flush 순번, vote_counts upsert와 같은 트랜잭션에서 VoteJdbcRepository가 갱신함
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "vote_flush_log")
+public class VoteFlushLog {
+    @Id
+    @Column(name = "node_id", length = 64)
+    private String nodeId;
+
+    @Column(name = "flush_seq", nullable = false)
+    private long flushSeq;
+}
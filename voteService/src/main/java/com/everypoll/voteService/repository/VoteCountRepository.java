@@ -0,0 +1,13 @@
+package com.everypoll.voteService.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.everypoll.voteService.model.VoteCount;
+
+public interface VoteCountRepository extends JpaRepository<VoteCount, Long> {
+    List<VoteCount> findByPollId(Long pollId);
+    List<VoteCount> findByPollIdIn(Collection<Long> pollIds);
+}
@@ -0,0 +1,189 @@
+package com.everypoll.voteService.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongConsumer;
+import java.util.function.ToIntFunction;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import com.everypoll.common.dto.VoteCastEvent;
+import com.everypoll.voteService.service.VoteCountDelta;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 대량 쓰기 경로용 JDBC 저장소.
+ * JPA의 IDENTITY 전략은 insert를 묶지 못하므로 votes/vote_counts 일괄 쓰기는 여기서 batch로 처리한다.
+ * (MySQL에서는 rewriteBatchedStatements=true로 한 번의 multi-row 문장이 됨)
+ */
+@Repository
+@RequiredArgsConstructor
+public class VoteJdbcRepository {
+
+    private static final String INSERT_VOTE_SQL =
+            "INSERT INTO votes (poll_id, option_id, user_id, created_at, updated_at) VALUES (?, ?, ?, ?, ?)";
+
+    private static final String UPSERT_VOTE_COUNT_SQL =
+            "INSERT INTO vote_counts (poll_id, option_id, slot, vote_count) VALUES (?, ?, ?, ?) "
+            + "ON DUPLICATE KEY UPDATE vote_count = vote_count + VALUES(vote_count)";
+
+    // 합칠 slot 행을 잠그고 읽음, 합친 값은 slot 0에 upsert로 더한 뒤 지움
+    private static final String LOCK_SLOT_COUNTS_SQL =
+            "SELECT option_id, vote_count FROM vote_counts WHERE poll_id = ? AND slot > 0 FOR UPDATE";
+
+    private static final String DELETE_SLOTS_SQL = "DELETE FROM vote_counts WHERE poll_id = ? AND slot > 0";
+
+    // 재시작 전에 합치지 못한 slot 행이 남은 poll (vote_counts는 poll x 선택지 크기라 시작 시 한 번 훑음)
+    private static final String FIND_SHARDED_POLLS_SQL = "SELECT DISTINCT poll_id FROM vote_counts WHERE slot > 0";
+
+    private static final String UPSERT_FLUSH_LOG_SQL =
+            "INSERT INTO vote_flush_log (node_id, flush_seq) VALUES (?, ?) "
+            + "ON DUPLICATE KEY UPDATE flush_seq = VALUES(flush_seq)";
+
+    private static final String FIND_FLUSH_SEQ_SQL = "SELECT flush_seq FROM vote_flush_log WHERE node_id = ?";
+
+    private static final String FIND_VOTER_IDS_SQL = "SELECT user_id FROM votes WHERE poll_id = ?";
+
+    // uk_vote_poll_user 순서(user_id)대로 읽어 정렬용 filesort가 생기지 않음
+    private static final String EXPORT_VOTES_SQL =
+            "SELECT id, option_id, user_id, created_at FROM votes WHERE poll_id = ? ORDER BY user_id";
+
+    // watermark 이후 투표가 들어온 poll과 마지막 투표 시각 (idx_vote_created_poll 범위 스캔)
+    private static final String FIND_RECENT_POLLS_SQL =
+            "SELECT poll_id, MAX(created_at) FROM votes WHERE created_at >= ? GROUP BY poll_id";
+
+    private static final String COUNT_VOTES_SQL =
+            "SELECT option_id, COUNT(*) FROM votes WHERE poll_id = ? GROUP BY option_id";
+
+    private static final String FIND_LAST_VOTED_AT_SQL = "SELECT MAX(created_at) FROM votes WHERE poll_id = ?";
+
+    // 같은 poll을 동시에 고치는 다른 인스턴스를 막기 위해 집계 행을 잠그고 읽음
+    private static final String LOCK_VOTE_COUNTS_SQL =
+            "SELECT option_id, vote_count FROM vote_counts WHERE poll_id = ? FOR UPDATE";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${vote.jdbc.batch-size:500}")
+    private int batchSize;
+
+    // MySQL은 Integer.MIN_VALUE면 한 행씩 흘려보내는 스트리밍 결과셋, 양수면 (useCursorFetch=true일 때) 그만큼씩 가져옴
+    @Value("${vote.export.fetch-size:-2147483648}")
+    private int exportFetchSize;
+
+    // 투표한 사용자 id를 한 행씩 넘김 (uk_vote_poll_user 인덱스만 읽음)
+    public void findVoterIds(Long pollId, LongConsumer consumer) {
+        jdbcTemplate.query(FIND_VOTER_IDS_SQL, rs -> {
+            consumer.accept(rs.getLong(1));
+        }, pollId);
+    }
+
+    // poll의 투표 원본을 forward-only 커서로 한 행씩 넘김, 결과를 메모리에 모으지 않음
+    public void streamVotes(Long pollId, RowCallbackHandler handler) {
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(EXPORT_VOTES_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(exportFetchSize);
+            ps.setLong(1, pollId);
+            return ps;
+        }, handler);
+    }
+
+    // pollId -> 그 poll의 마지막 투표 시각
+    public Map<Long, LocalDateTime> findPollsVotedSince(LocalDateTime since) {
+        Map<Long, LocalDateTime> polls = new HashMap<>();
+        jdbcTemplate.query(FIND_RECENT_POLLS_SQL, rs -> {
+            polls.put(rs.getLong(1), rs.getTimestamp(2).toLocalDateTime());
+        }, Timestamp.valueOf(since));
+        return polls;
+    }
+
+    // votes 기준 선택지별 실제 투표 수
+    public Map<Long, Long> countVotes(Long pollId) {
+        Map<Long, Long> counts = new HashMap<>();
+        jdbcTemplate.query(COUNT_VOTES_SQL, rs -> {
+            counts.put(rs.getLong(1), rs.getLong(2));
+        }, pollId);
+        return counts;
+    }
+
+    public LocalDateTime findLastVotedAt(Long pollId) {
+        Timestamp lastVotedAt = jdbcTemplate.queryForObject(FIND_LAST_VOTED_AT_SQL, Timestamp.class, pollId);
+        return lastVotedAt == null ? null : lastVotedAt.toLocalDateTime();
+    }
+
+    // vote_counts 기준 선택지별 투표 수 (slot 행은 더함), 트랜잭션 안에서 호출해야 잠금이 유지됨
+    public Map<Long, Long> lockVoteCounts(Long pollId) {
+        Map<Long, Long> counts = new HashMap<>();
+        jdbcTemplate.query(LOCK_VOTE_COUNTS_SQL, rs -> {
+            counts.merge(rs.getLong(1), rs.getLong(2), Long::sum);
+        }, pollId);
+        return counts;
+    }
+
+    public void insertVotes(List<VoteCastEvent> votes, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        jdbcTemplate.batchUpdate(INSERT_VOTE_SQL, votes, batchSize, (ps, vote) -> {
+            ps.setLong(1, vote.getPollId());
+            ps.setLong(2, vote.getOptionId());
+            ps.setLong(3, vote.getUserId());
+            ps.setTimestamp(4, timestamp);
+            ps.setTimestamp(5, timestamp);
+        });
+    }
+
+    // (poll, option)별로 모은 증분을 한 번에 slot 0 행에 더함
+    public void upsertVoteCounts(List<VoteCountDelta> deltas) {
+        upsertVoteCounts(deltas, pollId -> 0);
+    }
+
+    // 인기 poll은 slotOf가 고른 slot 행에 더함
+    public void upsertVoteCounts(List<VoteCountDelta> deltas, ToIntFunction<Long> slotOf) {
+        jdbcTemplate.batchUpdate(UPSERT_VOTE_COUNT_SQL, deltas, batchSize, (ps, delta) -> {
+            ps.setLong(1, delta.getPollId());
+            ps.setLong(2, delta.getOptionId());
+            ps.setInt(3, slotOf.applyAsInt(delta.getPollId()));
+            ps.setLong(4, delta.getDelta());
+        });
+    }
+
+    /**
+     * poll의 slot 1.. 행을 slot 0에 더하고 지운다. 트랜잭션 안에서 호출해야 하며 지운 행 수를 돌려준다.
+     * 합치는 동안 같은 slot 행에 쓰는 쪽은 잠금을 기다렸다가 새 행을 만들고, 읽는 쪽은 slot을 모두 더하므로 합계는 바뀌지 않는다.
+     */
+    public int foldSlots(Long pollId) {
+        Map<Long, Long> slotCounts = new HashMap<>();
+        jdbcTemplate.query(LOCK_SLOT_COUNTS_SQL, rs -> {
+            slotCounts.merge(rs.getLong(1), rs.getLong(2), Long::sum);
+        }, pollId);
+        if (slotCounts.isEmpty()) {
+            return 0;
+        }
+        upsertVoteCounts(slotCounts.entrySet().stream()
+                .map(entry -> new VoteCountDelta(pollId, entry.getKey(), entry.getValue()))
+                .toList());
+        return jdbcTemplate.update(DELETE_SLOTS_SQL, pollId);
+    }
+
+    public List<Long> findShardedPollIds() {
+        return jdbcTemplate.queryForList(FIND_SHARDED_POLLS_SQL, Long.class);
+    }
+
+    // upsertVoteCounts와 같은 트랜잭션에서 호출, 커밋되면 이 순번의 flush가 DB에 들어간 것
+    public void recordFlush(String nodeId, long sequence) {
+        jdbcTemplate.update(UPSERT_FLUSH_LOG_SQL, nodeId, sequence);
+    }
+
+    // 노드가 마지막으로 커밋한 flush 순번, 기록이 없으면 0
+    public long findFlushSequence(String nodeId) {
+        List<Long> sequences = jdbcTemplate.queryForList(FIND_FLUSH_SEQ_SQL, Long.class, nodeId);
+        return sequences.isEmpty() ? 0 : sequences.get(0);
+    }
+}
@@ -2,6 +2,8 @@ package com.everypoll.voteService.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 
-public interface VoteRepository extends JpaRepository {
+import com.everypoll.voteService.model.Vote;
+
+public interface VoteRepository extends JpaRepository<Vote, Long> {
     
 }
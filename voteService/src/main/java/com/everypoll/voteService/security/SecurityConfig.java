@@ -0,0 +1,45 @@
+package com.everypoll.voteService.security;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+
+import com.everypoll.common.config.RateLimitFilter;
+import com.everypoll.common.config.RateLimiter;
+
+import lombok.RequiredArgsConstructor;
+
+@Configuration
+@EnableWebSecurity
+@RequiredArgsConstructor
+public class SecurityConfig {
+
+    private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final RateLimiter rateLimiter;
+
+    @Bean
+    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+        http
+                .csrf(AbstractHttpConfigurer::disable)
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .authorizeHttpRequests(auth -> auth
+                        // 운영 통계는 관리자만
+                        .requestMatchers("/api/votes/admin/**").hasRole("ADMIN")
+                        .requestMatchers(HttpMethod.GET, "/api/votes/*/export").authenticated()
+                        .requestMatchers(HttpMethod.GET, "/api/votes/**").permitAll()
+                        .anyRequest().authenticated()
+                )
+                // JWT 인증 security에 탑재 
+                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                // 사용자(또는 IP)별 요청 제한, 규칙은 rate-limit.rules
+                .addFilterAfter(new RateLimitFilter(rateLimiter), JwtAuthenticationFilter.class);
+
+        return http.build();
+    }
+}
@@ -0,0 +1,154 @@
+package com.everypoll.voteService.service;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.everypoll.voteService.dto.VoterFilterStatsResponse;
+import com.everypoll.voteService.repository.VoteJdbcRepository;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 투표별로 이미 투표한 사용자 id를 압축 비트맵(Roaring64)으로 들고 있는 중복 투표 필터.
+ * uk_vote_poll_user 제약까지 가지 않고 메모리에서 재투표를 걸러낸다.
+ * 비트맵은 해당 투표가 처음 조회될 때 votes 테이블에서 만들어지고, 한동안 조회되지 않으면 내렸다가 다음 조회 때 다시 만든다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DuplicateVoteFilter {
+
+    private final VoteJdbcRepository voteJdbcRepository;
+
+    private final ConcurrentHashMap<Long, PollVoters> polls = new ConcurrentHashMap<>();
+
+    // 이 시간 동안 조회/반영이 없던 poll의 비트맵은 내림
+    @Value("${vote.voters.idle-ms:600000}")
+    private long idleMs;
+
+    @Value("${vote.voters.evict-interval-ms:60000}")
+    private long evictIntervalMs;
+
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "duplicate-vote-evictor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @PostConstruct
+    public void start() {
+        executor.scheduleWithFixedDelay(this::evictIdleQuietly, evictIntervalMs, evictIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public boolean hasVoted(Long pollId, Long userId) {
+        PollVoters voters = loadedVoters(pollId);
+        voters.lock.readLock().lock();
+        try {
+            return voters.bitmap.contains(userId);
+        } finally {
+            voters.lock.readLock().unlock();
+        }
+    }
+
+    // 커밋된 투표를 반영, 아직 만들어지지 않은 비트맵은 나중에 DB에서 읽을 때 포함되므로 건너뜀
+    public void markVoted(Long pollId, Long userId) {
+        PollVoters voters = polls.get(pollId);
+        if (voters == null) {
+            return;
+        }
+        voters.lastAccessMillis = System.currentTimeMillis();
+        voters.lock.writeLock().lock();
+        try {
+            if (voters.loaded) {
+                voters.bitmap.addLong(userId);
+            }
+        } finally {
+            voters.lock.writeLock().unlock();
+        }
+    }
+
+    // DB와 어긋났을 수 있는 비트맵을 버리고 다음 조회 때 다시 만듦
+    public void invalidate(Long pollId) {
+        polls.remove(pollId);
+    }
+
+    // 내린 뒤에도 남은 참조로 들어온 반영은 버려지지만, 다음 조회 때 DB에서 다시 만들 때 포함됨
+    public int evictIdle(long idleMillis) {
+        long cutoff = System.currentTimeMillis() - idleMillis;
+        int before = polls.size();
+        polls.values().removeIf(voters -> voters.lastAccessMillis < cutoff);
+        return before - polls.size();
+    }
+
+    public VoterFilterStatsResponse stats() {
+        long voterCount = 0;
+        long sizeInBytes = 0;
+        int pollCount = 0;
+        for (PollVoters voters : polls.values()) {
+            voters.lock.readLock().lock();
+            try {
+                if (voters.loaded) {
+                    voterCount += voters.bitmap.getLongCardinality();
+                    sizeInBytes += voters.bitmap.getLongSizeInBytes();
+                    pollCount++;
+                }
+            } finally {
+                voters.lock.readLock().unlock();
+            }
+        }
+        return VoterFilterStatsResponse.of(pollCount, voterCount, sizeInBytes);
+    }
+
+    private PollVoters loadedVoters(Long pollId) {
+        PollVoters voters = polls.computeIfAbsent(pollId, id -> new PollVoters());
+        voters.lastAccessMillis = System.currentTimeMillis();
+        if (!voters.loaded) {
+            voters.lock.writeLock().lock();
+            try {
+                if (!voters.loaded) {
+                    voteJdbcRepository.findVoterIds(pollId, voters.bitmap::addLong);
+                    voters.bitmap.runOptimize();
+                    voters.loaded = true;
+                    log.info("poll {} 투표자 비트맵 생성: {}명, {} bytes",
+                            pollId, voters.bitmap.getLongCardinality(), voters.bitmap.getLongSizeInBytes());
+                }
+            } finally {
+                voters.lock.writeLock().unlock();
+            }
+        }
+        return voters;
+    }
+
+    private void evictIdleQuietly() {
+        try {
+            int evicted = evictIdle(idleMs);
+            if (evicted > 0) {
+                log.debug("한가한 poll 투표자 비트맵 {}개 내림", evicted);
+            }
+        } catch (RuntimeException e) {
+            log.error("투표자 비트맵 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    private static final class PollVoters {
+        private final Roaring64Bitmap bitmap = new Roaring64Bitmap();
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private volatile boolean loaded;
+        private volatile long lastAccessMillis = System.currentTimeMillis();
+    }
+}
@@ -0,0 +1,170 @@
+package com.everypoll.voteService.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.everypoll.voteService.dto.HotPollResponse;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * poll별 투표 속도를 일정 구간마다 재서 인기 poll을 가려내는 감지기.
+ * 인기 poll의 vote_counts 증분은 여러 slot 행에 흩어 써서, 같은 poll에 쓰는 다른 트랜잭션(담당이 넘어가는 중인
+ * 다른 노드의 flush, 정합성 검사)이 한 행의 락을 기다리지 않게 한다.
+ * 속도가 떨어진 채로 몇 구간이 지나면 flusher가 slot 행을 다시 하나로 합치도록 넘겨준다.
+ */
+@Slf4j
+@Component
+public class HotPollDetector {
+
+    @Value("${vote.hot.window-ms:10000}")
+    private long windowMs;
+
+    // 이 속도(초당 투표 수) 이상이면 인기 poll로 보고 slot을 나눔
+    @Value("${vote.hot.threshold-per-sec:200}")
+    private double hotThreshold;
+
+    // 이 속도 미만인 구간이 cool-windows번 이어지면 slot을 합침
+    @Value("${vote.hot.cool-threshold-per-sec:50}")
+    private double coolThreshold;
+
+    @Value("${vote.hot.cool-windows:6}")
+    private int coolWindows;
+
+    @Value("${vote.hot.slots:8}")
+    private int slots;
+
+    private final ConcurrentHashMap<Long, LongAdder> window = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, HotPoll> hotPolls = new ConcurrentHashMap<>();
+    // 식어서 slot을 합쳐야 하는 poll (flusher가 가져감)
+    private final Queue<Long> cooled = new ConcurrentLinkedQueue<>();
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "hot-poll-detector");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private long windowStartedAt;
+
+    @PostConstruct
+    public void start() {
+        windowStartedAt = System.currentTimeMillis();
+        executor.scheduleWithFixedDelay(this::evaluateQuietly, windowMs, windowMs, TimeUnit.MILLISECONDS);
+    }
+
+    public void record(Long pollId, long votes) {
+        window.computeIfAbsent(pollId, id -> new LongAdder()).add(votes);
+    }
+
+    // 인기 poll이면 임의의 slot, 아니면 slot 0 (flusher는 한 번의 flush 안에서 poll마다 한 번만 고름)
+    public int slotFor(Long pollId) {
+        HotPoll hotPoll = hotPolls.get(pollId);
+        return hotPoll == null ? 0 : ThreadLocalRandom.current().nextInt(hotPoll.slots);
+    }
+
+    public List<Long> drainCooled() {
+        List<Long> pollIds = new ArrayList<>();
+        Long pollId;
+        while ((pollId = cooled.poll()) != null) {
+            pollIds.add(pollId);
+        }
+        return pollIds;
+    }
+
+    // slot을 합치지 못했거나 재시작 전에 남은 slot 행, 그 사이 다시 인기 poll이 됐으면 식을 때 합침
+    public void scheduleFold(Collection<Long> pollIds) {
+        pollIds.forEach(pollId -> {
+            if (!hotPolls.containsKey(pollId)) {
+                cooled.add(pollId);
+            }
+        });
+    }
+
+    public List<HotPollResponse> getHotPolls() {
+        return hotPolls.entrySet().stream()
+                .map(entry -> HotPollResponse.builder()
+                        .pollId(entry.getKey())
+                        .slots(entry.getValue().slots)
+                        .votesPerSecond(entry.getValue().votesPerSecond)
+                        .hotSince(entry.getValue().hotSince)
+                        .build())
+                .sorted(Comparator.comparingDouble(HotPollResponse::getVotesPerSecond).reversed())
+                .toList();
+    }
+
+    void evaluate() {
+        long now = System.currentTimeMillis();
+        long elapsed = Math.max(now - windowStartedAt, 1);
+        windowStartedAt = now;
+
+        Map<Long, Double> rates = new HashMap<>();
+        window.forEach((pollId, adder) -> {
+            long votes = adder.sumThenReset();
+            if (votes == 0) {
+                window.remove(pollId, adder);
+            } else {
+                rates.put(pollId, votes * 1000.0 / elapsed);
+            }
+        });
+
+        rates.forEach((pollId, rate) -> {
+            if (rate >= hotThreshold) {
+                hotPolls.computeIfAbsent(pollId, id -> {
+                    log.info("인기 poll 감지 poll: {} 초당 {}표, slot {}개로 분산", pollId, Math.round(rate), slots);
+                    return new HotPoll(slots, now);
+                });
+            }
+        });
+
+        hotPolls.forEach((pollId, hotPoll) -> {
+            double rate = rates.getOrDefault(pollId, 0.0);
+            hotPoll.votesPerSecond = rate;
+            hotPoll.coolWindows = rate < coolThreshold ? hotPoll.coolWindows + 1 : 0;
+            if (hotPoll.coolWindows >= coolWindows && hotPolls.remove(pollId, hotPoll)) {
+                log.info("인기 poll 해제 poll: {}, slot 행 합치기 예약", pollId);
+                cooled.add(pollId);
+            }
+        });
+    }
+
+    private void evaluateQuietly() {
+        try {
+            evaluate();
+        } catch (Exception e) {
+            log.error("인기 poll 판정 실패: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private static final class HotPoll {
+        private final int slots;
+        private final long hotSince;
+        private volatile double votesPerSecond;
+        private int coolWindows;
+
+        private HotPoll(int slots, long hotSince) {
+            this.slots = slots;
+            this.hotSince = hotSince;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.everypoll.voteService.service;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.everypoll.voteService.dto.IdempotencyStatsResponse;
+import com.everypoll.voteService.dto.VoteRequest;
+import com.everypoll.voteService.dto.VoteResponse;
+import com.everypoll.voteService.exception.IdempotencyKeyReusedException;
+import com.everypoll.voteService.exception.VoteIngestionException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Idempotency-Key별 투표 응답을 잠시 보관하는 캐시.
+ * 같은 사용자가 같은 키로 다시 보내면 처음 응답을 그대로 돌려주고, 처음 요청이 아직 처리 중이면 그 결과를 기다린다.
+ * 크기와 보관 시간이 모두 제한되어 있어 오래된 키는 알아서 빠진다.
+ */
+@Component
+public class IdempotencyCache {
+
+    private final Cache<String, Entry> cache;
+    private final long waitTimeoutMs;
+
+    public IdempotencyCache(@Value("${vote.idempotency.max-entries:100000}") long maxEntries,
+            @Value("${vote.idempotency.ttl-ms:3600000}") long ttlMs,
+            @Value("${vote.kafka.send-timeout-ms:3000}") long sendTimeoutMs) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(Duration.ofMillis(ttlMs))
+                .recordStats()
+                .build();
+        // 처음 요청은 브로커 확인까지만 기다리므로 그보다 조금 더 기다림
+        this.waitTimeoutMs = sendTimeoutMs * 2;
+    }
+
+    public VoteResponse execute(Long userId, String idempotencyKey, VoteRequest request, Supplier<VoteResponse> action) {
+        String fingerprint = request.getPollId() + ":" + request.getOptionId();
+        Entry created = new Entry(fingerprint);
+        // 키는 사용자 단위로 나눠서 다른 사용자의 키와 부딪히지 않게 함
+        String key = userId + ":" + idempotencyKey;
+        Entry entry = cache.get(key, k -> created);
+
+        if (!entry.fingerprint.equals(fingerprint)) {
+            throw new IdempotencyKeyReusedException(idempotencyKey);
+        }
+        if (entry == created) {
+            try {
+                VoteResponse response = action.get();
+                created.response.complete(response);
+                return response;
+            } catch (RuntimeException e) {
+                // 실패한 요청은 남겨두지 않아 같은 키로 다시 시도할 수 있게 함
+                cache.asMap().remove(key, created);
+                created.response.completeExceptionally(e);
+                throw e;
+            }
+        }
+        return await(entry, request.getPollId());
+    }
+
+    public IdempotencyStatsResponse stats() {
+        return IdempotencyStatsResponse.of(cache.estimatedSize(), cache.stats());
+    }
+
+    private VoteResponse await(Entry entry, Long pollId) {
+        try {
+            return entry.response.get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new VoteIngestionException(pollId, e);
+        } catch (ExecutionException e) {
+            // 처음 요청과 같은 예외(409, 503 등)를 그대로 돌려줌
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new VoteIngestionException(pollId, e.getCause());
+        } catch (TimeoutException e) {
+            throw new VoteIngestionException(pollId, e);
+        }
+    }
+
+    private static final class Entry {
+        private final String fingerprint;
+        private final CompletableFuture<VoteResponse> response = new CompletableFuture<>();
+
+        private Entry(String fingerprint) {
+            this.fingerprint = fingerprint;
+        }
+    }
+}
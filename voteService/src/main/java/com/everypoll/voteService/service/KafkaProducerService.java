@@ -0,0 +1,45 @@
+package com.everypoll.voteService.service;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Service;
+
+import com.everypoll.common.dto.VoteCastEvent;
+import com.everypoll.common.dto.VoteTallyEvent;
+import com.everypoll.voteService.config.KafkaTopicConfig;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class KafkaProducerService {
+    private final KafkaTemplate<String, VoteCastEvent> kafkaTemplate;
+    private final KafkaTemplate<String, VoteTallyEvent> tallyKafkaTemplate;
+
+    public CompletableFuture<SendResult<String, VoteCastEvent>> sendVoteCastEvent(VoteCastEvent event) {
+        // pollId를 key로 보내 같은 투표의 이벤트가 한 파티션으로 모이도록 함
+        CompletableFuture<SendResult<String, VoteCastEvent>> future =
+                kafkaTemplate.send(KafkaTopicConfig.VOTE_CAST_TOPIC, event.getPollId().toString(), event);
+
+        future.whenComplete((result, ex) -> {
+            if (ex != null) {
+                // 전송 실패 시
+                log.error("Failed to send vote for pollId={} userId={}: {}", event.getPollId(), event.getUserId(), ex.getMessage());
+            }
+        });
+        return future;
+    }
+
+    public void sendVoteTallyEvent(VoteTallyEvent event) {
+        tallyKafkaTemplate.send(KafkaTopicConfig.VOTE_TALLY_TOPIC, event.getPollId().toString(), event)
+                .whenComplete((result, ex) -> {
+                    if (ex != null) {
+                        log.error("Failed to send tally for pollId={}: {}", event.getPollId(), ex.getMessage());
+                    }
+                });
+    }
+}
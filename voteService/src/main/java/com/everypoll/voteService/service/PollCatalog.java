@@ -0,0 +1,105 @@
+package com.everypoll.voteService.service;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.StampedLock;
+
+import org.springframework.stereotype.Component;
+
+import com.everypoll.common.dto.PollSnapshotEvent;
+import com.everypoll.voteService.store.LongLongHashMap;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * pollService가 poll-snapshot-topic에 올리는 poll/선택지 스냅샷의 로컬 복제본.
+ * optionId -> pollId는 박싱 없는 LongLongHashMap에 두어 투표 검증이 메모리 조회 한 번으로 끝난다.
+ * 쓰기는 스냅샷 리스너 스레드 하나뿐이고, 읽기는 StampedLock 낙관적 읽기로 락 없이 처리한다.
+ */
+@Slf4j
+@Component
+public class PollCatalog {
+
+    private final StampedLock lock = new StampedLock();
+    private final LongLongHashMap optionPolls = new LongLongHashMap(1 << 16);
+    private final ConcurrentHashMap<Long, PollEntry> polls = new ConcurrentHashMap<>();
+    private volatile boolean ready;
+
+    // snapshot이 null이면 삭제된 poll (tombstone)
+    public void apply(Long pollId, PollSnapshotEvent snapshot) {
+        long stamp = lock.writeLock();
+        try {
+            PollEntry previous = polls.remove(pollId);
+            if (previous != null) {
+                for (long optionId : previous.optionIds) {
+                    optionPolls.remove(optionId);
+                }
+            }
+            if (snapshot != null) {
+                long[] optionIds = snapshot.getOptionIds().stream().mapToLong(Long::longValue).toArray();
+                for (long optionId : optionIds) {
+                    optionPolls.put(optionId, pollId);
+                }
+                polls.put(pollId, new PollEntry(snapshot.getCreatedBy(), optionIds));
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public boolean contains(Long pollId, Long optionId) {
+        return pollOf(optionId) == pollId;
+    }
+
+    // 선택지가 속한 pollId, 모르는 선택지면 0
+    public long pollOf(long optionId) {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0) {
+            try {
+                long pollId = optionPolls.get(optionId, 0);
+                if (lock.validate(stamp)) {
+                    return pollId;
+                }
+            } catch (RuntimeException e) {
+                // 크기를 늘리는 중인 배열을 읽은 경우, 아래에서 읽기 락으로 다시 읽음
+            }
+        }
+        stamp = lock.readLock();
+        try {
+            return optionPolls.get(optionId, 0);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public boolean containsPoll(Long pollId) {
+        return polls.containsKey(pollId);
+    }
+
+    // poll 작성자(JWT subject), 모르는 poll이면 null
+    public String ownerOf(Long pollId) {
+        PollEntry entry = polls.get(pollId);
+        return entry == null ? null : entry.createdBy;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // 시작 시 토픽을 끝까지 읽었을 때 (리스너가 처음 한가해졌을 때) 한 번 호출됨
+    public void markReady() {
+        if (!ready) {
+            ready = true;
+            log.info("poll 복제본 준비 완료: poll {}개, 선택지 {}개", polls.size(), optionPolls.size());
+        }
+    }
+
+    private static final class PollEntry {
+        private final String createdBy;
+        private final long[] optionIds;
+
+        private PollEntry(String createdBy, long[] optionIds) {
+            this.createdBy = createdBy;
+            this.optionIds = optionIds;
+        }
+    }
+}
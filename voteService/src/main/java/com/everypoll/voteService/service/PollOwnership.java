@@ -0,0 +1,133 @@
+package com.everypoll.voteService.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.utils.Utils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.listener.ConsumerAwareRebalanceListener;
+import org.springframework.stereotype.Component;
+
+import com.everypoll.voteService.config.KafkaTopicConfig;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * vote-cast-topic 파티션 할당으로 poll의 담당 노드를 정한다.
+ * pollId가 key이므로 한 poll의 투표는 항상 한 파티션, 즉 그 파티션을 받은 노드의 한 consumer 스레드만 쓴다.
+ * 그 스레드가 poll의 단일 writer이고, 다른 노드로 들어온 투표는 pollId key로 produce하는 것만으로 담당 노드에 전달된다.
+ * 파티션이 넘어갈 때는 offset 커밋 전에 증분을 vote_counts에 flush하고 메모리 상태를 비워,
+ * 새 담당 노드가 vote_counts(스냅샷)에서 이어받게 한다.
+ * poll의 파티션은 설정값이 아니라 프로듀서가 쓰는 것과 같은 토픽 메타데이터의 파티션 수로 계산한다.
+ */
+@Slf4j
+@Component
+public class PollOwnership implements ConsumerAwareRebalanceListener {
+
+    private final VoteCountFlusher voteCountFlusher;
+    private final VoteCounter voteCounter;
+    private final PollResultViewCache pollResultViewCache;
+    private final DuplicateVoteFilter duplicateVoteFilter;
+
+    // 토픽 생성 시 쓰는 값, 실제 파티션 수와 다르면 경고만 남김
+    @Value("${vote.kafka.partitions:3}")
+    private int configuredPartitions;
+
+    private final Set<Integer> owned = ConcurrentHashMap.newKeySet();
+    // 파티션을 받을 때 consumer 메타데이터에서 읽은 vote-cast-topic 파티션 수, 받기 전에는 0
+    private volatile int partitionCount;
+
+    public PollOwnership(VoteCountFlusher voteCountFlusher, VoteCounter voteCounter,
+            PollResultViewCache pollResultViewCache, DuplicateVoteFilter duplicateVoteFilter) {
+        this.voteCountFlusher = voteCountFlusher;
+        this.voteCounter = voteCounter;
+        this.pollResultViewCache = pollResultViewCache;
+        this.duplicateVoteFilter = duplicateVoteFilter;
+    }
+
+    // 이 노드가 poll의 vote-cast 파티션을 받아 증분을 쓰고 있는지
+    public boolean consumes(Long pollId) {
+        int count = partitionCount;
+        return count > 0 && owned.contains(partitionFor(pollId, count));
+    }
+
+    // 프로듀서의 기본 파티셔너(StringSerializer로 직렬화한 key의 murmur2)와 같은 계산
+    static int partitionFor(Long pollId, int partitionCount) {
+        byte[] key = String.valueOf(pollId).getBytes(StandardCharsets.UTF_8);
+        return Utils.toPositive(Utils.murmur2(key)) % partitionCount;
+    }
+
+    @Override
+    public void onPartitionsAssigned(Consumer<?, ?> consumer, Collection<TopicPartition> assigned) {
+        List<Integer> partitionIds = voteCastPartitions(assigned);
+        if (partitionIds.isEmpty()) {
+            return;
+        }
+        refreshPartitionCount(consumer.partitionsFor(KafkaTopicConfig.VOTE_CAST_TOPIC).size());
+        owned.addAll(partitionIds);
+        log.info("vote-cast 파티션 담당 시작: {} (전체 {}개)", partitionIds, partitionCount);
+    }
+
+    // 파티션이 늘면 poll이 다른 파티션으로 옮겨가므로, 이전 파티션 수로 맡던 poll은 모두 넘긴 뒤 바꿈
+    synchronized void refreshPartitionCount(int count) {
+        int previous = partitionCount;
+        if (previous == count) {
+            return;
+        }
+        if (count != configuredPartitions) {
+            log.warn("vote-cast-topic 파티션 수 {}개가 설정값 vote.kafka.partitions={}와 다름, 토픽 기준으로 계산", count, configuredPartitions);
+        }
+        if (previous > 0) {
+            handOver(List.copyOf(owned), true);
+        }
+        partitionCount = count;
+    }
+
+    // offset 커밋 전에 호출되므로, 여기서 flush가 끝난 증분만 다음 담당 노드가 이어받음
+    @Override
+    public void onPartitionsRevokedBeforeCommit(Consumer<?, ?> consumer, Collection<TopicPartition> revoked) {
+        handOver(voteCastPartitions(revoked), true);
+    }
+
+    @Override
+    public void onPartitionsLost(Consumer<?, ?> consumer, Collection<TopicPartition> lost) {
+        handOver(voteCastPartitions(lost), false);
+    }
+
+    private void handOver(List<Integer> partitionIds, boolean flush) {
+        int count = partitionCount;
+        if (partitionIds.isEmpty() || count == 0) {
+            return;
+        }
+        owned.removeAll(partitionIds);
+
+        if (flush) {
+            try {
+                voteCountFlusher.flush();
+            } catch (Exception e) {
+                // 남은 증분은 이 노드의 flusher가 계속 재시도함 (upsert는 더하기라 담당이 바뀌어도 안전)
+                log.error("파티션 이전 전 flush 실패: {}", e.getMessage());
+            }
+        }
+
+        List<Long> pollIds = voteCounter.pollIds().stream()
+                .filter(pollId -> partitionIds.contains(partitionFor(pollId, count)))
+                .toList();
+        int evicted = voteCounter.evict(pollIds);
+        pollResultViewCache.evict(pollIds);
+        pollIds.forEach(duplicateVoteFilter::invalidate);
+        log.info("vote-cast 파티션 {} 이전: poll {}개 중 {}개 메모리에서 제거", partitionIds, pollIds.size(), evicted);
+    }
+
+    private static List<Integer> voteCastPartitions(Collection<TopicPartition> partitions) {
+        return partitions.stream()
+                .filter(partition -> KafkaTopicConfig.VOTE_CAST_TOPIC.equals(partition.topic()))
+                .map(TopicPartition::partition)
+                .toList();
+    }
+}
@@ -0,0 +1,59 @@
+package com.everypoll.voteService.service;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.everypoll.voteService.dto.PollResultView;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * poll별 PollResultView를 들고 있는 크기 제한 캐시.
+ * 투표가 반영될 때마다 뷰를 카운터(다른 노드의 poll은 받은 집계)로 바로 갱신하므로 조회는 맵 조회 한 번이면 되고,
+ * 밀려난 poll은 다음 조회 때 VoteCounter에서 다시 만든다.
+ */
+@Component
+public class PollResultViewCache {
+
+    private final VoteCounter voteCounter;
+    private final Cache<Long, PollResultView> cache;
+
+    public PollResultViewCache(VoteCounter voteCounter, @Value("${vote.results.view-cache-size:100000}") long maxSize) {
+        this.voteCounter = voteCounter;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    public PollResultView get(Long pollId) {
+        return cache.get(pollId, id -> PollResultView.of(id, voteCounter.getCounts(id), System.currentTimeMillis()));
+    }
+
+    /**
+     * 카운터에 증분을 올린 뒤 호출해서 뷰를 카운터 값으로 다시 만든다.
+     * 증분을 더하지 않고 카운터에서 다시 읽으므로 뷰를 만드는 중에 들어온 증분도 두 번 세지 않고,
+     * compute 안에서는 메모리의 카운터만 읽는다 (기준값을 읽지 않은 poll은 뷰를 지우고 다음 조회 때 만듦).
+     */
+    public void refresh(Long pollId) {
+        cache.asMap().computeIfPresent(pollId, (id, view) -> {
+            Map<Long, Long> counts = voteCounter.peekCounts(id);
+            return counts == null ? null : PollResultView.of(id, counts, System.currentTimeMillis());
+        });
+    }
+
+    // 이 노드가 쓰지 않는 poll: 쓰는 노드가 보낸 집계로 뷰를 맞춤 (모든 집계 이벤트에 totals가 있음)
+    public void applyRemote(Long pollId, Map<Long, Long> totals) {
+        Objects.requireNonNull(totals, () -> "poll " + pollId + " 집계 이벤트에 totals가 없음");
+        long now = System.currentTimeMillis();
+        cache.asMap().computeIfPresent(pollId, (id, view) -> PollResultView.of(id, new TreeMap<>(totals), now));
+    }
+
+    public void evict(Collection<Long> pollIds) {
+        cache.invalidateAll(pollIds);
+    }
+}
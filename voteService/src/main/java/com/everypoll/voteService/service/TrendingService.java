@@ -0,0 +1,181 @@
+package com.everypoll.voteService.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.everypoll.voteService.dto.TrendingPollResponse;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 실시간 인기 poll 순위.
+ * vote-tally-topic 증분을 poll별 60분짜리 분 단위 링 버퍼에 쌓고, 주기적으로 구간마다 감쇠 가중 속도로
+ * 상위 K개를 다시 뽑아 둔다. 조회는 미리 만든 목록을 잘라서 돌려주므로 DB를 읽지 않는다.
+ */
+@Slf4j
+@Service
+public class TrendingService {
+
+    private static final int MINUTES = 60;
+    private static final Comparator<TrendingPollResponse> BY_SCORE = Comparator
+            .comparingDouble(TrendingPollResponse::getVotesPerMinute)
+            .thenComparing(TrendingPollResponse::getPollId, Comparator.reverseOrder());
+
+    @Value("${vote.trending.top-k:100}")
+    private int topK;
+
+    @Value("${vote.trending.refresh-ms:5000}")
+    private long refreshMs;
+
+    private final ConcurrentHashMap<Long, VoteRateBuffer> buffers = new ConcurrentHashMap<>();
+    // 구간별 순위 (refresh마다 통째로 교체)
+    private volatile Map<TrendingWindow, List<TrendingPollResponse>> rankings = new EnumMap<>(TrendingWindow.class);
+    private final Map<TrendingWindow, double[]> weights = new EnumMap<>(TrendingWindow.class);
+
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "vote-trending");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @PostConstruct
+    public void start() {
+        // 나이(분)별 가중치: 구간 안에서 반감기 = 구간/2, 구간 밖은 0
+        for (TrendingWindow window : TrendingWindow.values()) {
+            double halfLife = window.getMinutes() / 2.0;
+            double[] weight = new double[MINUTES];
+            for (int age = 0; age < window.getMinutes(); age++) {
+                weight[age] = Math.pow(0.5, age / halfLife);
+            }
+            weights.put(window, weight);
+        }
+        executor.scheduleWithFixedDelay(this::refreshQuietly, refreshMs, refreshMs, TimeUnit.MILLISECONDS);
+    }
+
+    public void record(Long pollId, long votes) {
+        buffers.computeIfAbsent(pollId, id -> new VoteRateBuffer()).add(currentMinute(), votes);
+    }
+
+    public List<TrendingPollResponse> getTrending(TrendingWindow window, int limit) {
+        List<TrendingPollResponse> ranking = rankings.getOrDefault(window, List.of());
+        return ranking.subList(0, Math.min(Math.max(limit, 0), ranking.size()));
+    }
+
+    void refresh() {
+        long now = currentMinute();
+        Map<TrendingWindow, PriorityQueue<TrendingPollResponse>> heaps = new EnumMap<>(TrendingWindow.class);
+        for (TrendingWindow window : TrendingWindow.values()) {
+            heaps.put(window, new PriorityQueue<>(topK + 1, BY_SCORE));
+        }
+
+        int[] byAge = new int[MINUTES];
+        buffers.forEach((pollId, buffer) -> {
+            // 한 시간 동안 투표가 없던 poll은 버퍼를 버림
+            if (!buffer.copyTo(now, byAge)) {
+                buffers.remove(pollId, buffer);
+                return;
+            }
+            heaps.forEach((window, heap) -> {
+                double[] weight = weights.get(window);
+                double weighted = 0;
+                double totalWeight = 0;
+                long votes = 0;
+                for (int age = 0; age < window.getMinutes(); age++) {
+                    weighted += byAge[age] * weight[age];
+                    totalWeight += weight[age];
+                    votes += byAge[age];
+                }
+                if (votes == 0) {
+                    return;
+                }
+                heap.add(TrendingPollResponse.builder()
+                        .pollId(pollId)
+                        .votesPerMinute(weighted / totalWeight)
+                        .votes(votes)
+                        .build());
+                // 최소 힙을 K개로 유지
+                if (heap.size() > topK) {
+                    heap.poll();
+                }
+            });
+        });
+
+        Map<TrendingWindow, List<TrendingPollResponse>> next = new EnumMap<>(TrendingWindow.class);
+        heaps.forEach((window, heap) -> {
+            List<TrendingPollResponse> ranking = new ArrayList<>(heap);
+            ranking.sort(BY_SCORE.reversed());
+            next.put(window, List.copyOf(ranking));
+        });
+        rankings = next;
+    }
+
+    private void refreshQuietly() {
+        try {
+            refresh();
+        } catch (Exception e) {
+            log.error("인기 poll 순위 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private static long currentMinute() {
+        return TimeUnit.MILLISECONDS.toMinutes(System.currentTimeMillis());
+    }
+
+    // 최근 60분의 분당 투표 수, 칸은 분(epoch minute) % 60
+    private static final class VoteRateBuffer {
+        private final int[] counts = new int[MINUTES];
+        private long newestMinute = -1;
+
+        private synchronized void add(long minute, long votes) {
+            advance(minute);
+            if (minute > newestMinute - MINUTES) {
+                counts[slot(minute)] += (int) votes;
+            }
+        }
+
+        // byAge[0]이 현재 분, 60분 동안 한 표도 없었으면 false
+        private synchronized boolean copyTo(long nowMinute, int[] byAge) {
+            advance(nowMinute);
+            boolean active = false;
+            for (int age = 0; age < MINUTES; age++) {
+                byAge[age] = counts[slot(nowMinute - age)];
+                active |= byAge[age] != 0;
+            }
+            return active;
+        }
+
+        // 지나간 분의 칸을 비우며 최신 분을 옮김 (최대 60칸)
+        private void advance(long minute) {
+            if (minute <= newestMinute) {
+                return;
+            }
+            long from = newestMinute < 0 ? minute : Math.max(newestMinute + 1, minute - MINUTES + 1);
+            for (long m = from; m <= minute; m++) {
+                counts[slot(m)] = 0;
+            }
+            newestMinute = minute;
+        }
+
+        private static int slot(long minute) {
+            return (int) Math.floorMod(minute, (long) MINUTES);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.everypoll.voteService.service;
+
+import java.util.Arrays;
+
+import com.everypoll.voteService.exception.InvalidTrendingWindowException;
+
+// 인기 순위를 매기는 구간, 반감기는 구간의 절반
+public enum TrendingWindow {
+    FIVE_MINUTES("5m", 5),
+    FIFTEEN_MINUTES("15m", 15),
+    ONE_HOUR("1h", 60);
+
+    private final String label;
+    private final int minutes;
+
+    TrendingWindow(String label, int minutes) {
+        this.label = label;
+        this.minutes = minutes;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public int getMinutes() {
+        return minutes;
+    }
+
+    public static TrendingWindow from(String label) {
+        return Arrays.stream(values())
+                .filter(window -> window.label.equalsIgnoreCase(label))
+                .findFirst()
+                .orElseThrow(() -> new InvalidTrendingWindowException(label));
+    }
+}
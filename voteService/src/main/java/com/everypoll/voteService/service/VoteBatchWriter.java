@@ -0,0 +1,60 @@
+package com.everypoll.voteService.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.everypoll.common.dto.VoteCastEvent;
+import com.everypoll.voteService.repository.VoteJdbcRepository;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class VoteBatchWriter {
+
+    private final VoteJdbcRepository voteJdbcRepository;
+    private final DuplicateVoteFilter duplicateVoteFilter;
+
+    /**
+     * Kafka에서 받은 투표 묶음을 한 트랜잭션으로 저장하고, 실제로 저장된 투표만 돌려준다.
+     * 재투표는 DuplicateVoteFilter에서 걸러지고, uk_vote_poll_user는 마지막 안전장치로만 남는다.
+     */
+    @Transactional
+    public List<VoteCastEvent> write(List<VoteCastEvent> events) {
+        // batch 안에서 같은 사용자의 중복 투표는 먼저 온 것만 남김
+        Map<VoterKey, VoteCastEvent> unique = new LinkedHashMap<>();
+        for (VoteCastEvent event : events) {
+            unique.putIfAbsent(new VoterKey(event.getPollId(), event.getUserId()), event);
+        }
+
+        List<VoteCastEvent> accepted = new ArrayList<>(unique.size());
+        for (VoteCastEvent event : unique.values()) {
+            if (!duplicateVoteFilter.hasVoted(event.getPollId(), event.getUserId())) {
+                accepted.add(event);
+            }
+        }
+        if (accepted.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        try {
+            voteJdbcRepository.insertVotes(accepted, LocalDateTime.now());
+        } catch (DuplicateKeyException e) {
+            // 비트맵이 DB보다 뒤처진 경우: 다시 만들도록 버리고 batch 전체를 재시도하게 함
+            accepted.forEach(event -> duplicateVoteFilter.invalidate(event.getPollId()));
+            throw e;
+        }
+        return accepted;
+    }
+
+    private record VoterKey(Long pollId, Long userId) {
+    }
+}
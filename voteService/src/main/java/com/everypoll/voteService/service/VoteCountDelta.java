@@ -0,0 +1,13 @@
+package com.everypoll.voteService.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 한 번의 flush에서 (poll, option) 단위로 모인 증분
+@Getter
+@AllArgsConstructor
+public class VoteCountDelta {
+    private final Long pollId;
+    private final Long optionId;
+    private final long delta;
+}
@@ -0,0 +1,146 @@
+package com.everypoll.voteService.service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.everypoll.voteService.repository.VoteJdbcRepository;
+import com.everypoll.voteService.store.TallyJournal;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * VoteCounter에 쌓인 증분을 일정 주기 또는 임계치마다 vote_counts에 모아서 쓰는 write-behind flusher.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VoteCountFlusher {
+
+    private final VoteCounter voteCounter;
+    private final VoteJdbcRepository voteJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TallyJournal tallyJournal;
+    private final HotPollDetector hotPollDetector;
+
+    @Value("${vote.flush.interval-ms:1000}")
+    private long intervalMs;
+
+    @Value("${vote.flush.threshold:10000}")
+    private long threshold;
+
+    @Value("${vote.flush.shutdown-timeout-ms:10000}")
+    private long shutdownTimeoutMs;
+
+    // 이 시간 동안 투표가 없고 모두 DB에 쓰인 poll의 카운터는 메모리에서 내림
+    @Value("${vote.counter.idle-ms:600000}")
+    private long idleMs;
+
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "vote-count-flusher");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+
+    @PostConstruct
+    public void start() {
+        executor.execute(this::scheduleLeftoverFoldsQuietly);
+        executor.scheduleWithFixedDelay(this::flushQuietly, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    // 대기 중인 증분이 임계치를 넘으면 주기를 기다리지 않고 flush를 예약
+    public void requestFlushIfNeeded() {
+        if (voteCounter.unflushedCount() >= threshold && flushRequested.compareAndSet(false, true)) {
+            executor.execute(() -> {
+                flushRequested.set(false);
+                flushQuietly();
+            });
+        }
+    }
+
+    public int flush() {
+        int flushed = voteCounter.flush(this::write);
+        foldCooledSlots();
+        return flushed;
+    }
+
+    // 집계 행과 flush 순번을 한 트랜잭션으로 씀 (저널이 꺼져 있으면 순번은 남기지 않음)
+    // 인기 poll은 flush마다 slot 하나를 골라 그 poll의 선택지를 모두 같은 slot 행에 씀
+    private void write(long sequence, List<VoteCountDelta> deltas) {
+        String nodeId = tallyJournal.nodeId();
+        Map<Long, Integer> slots = new HashMap<>();
+        transactionTemplate.executeWithoutResult(status -> {
+            voteJdbcRepository.upsertVoteCounts(deltas, pollId -> slots.computeIfAbsent(pollId, hotPollDetector::slotFor));
+            if (nodeId != null) {
+                voteJdbcRepository.recordFlush(nodeId, sequence);
+            }
+        });
+    }
+
+    // 식은 poll의 slot 행 합치기도 flush와 같은 스레드에서 처리해 이 인스턴스의 쓰기와 겹치지 않게 함
+    private void foldCooledSlots() {
+        for (Long pollId : hotPollDetector.drainCooled()) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    int folded = voteJdbcRepository.foldSlots(pollId);
+                    log.debug("poll {}의 slot 행 {}개 합침", pollId, folded);
+                });
+            } catch (Exception e) {
+                log.error("slot 행 합치기 실패 poll: {} - {}", pollId, e.getMessage());
+                hotPollDetector.scheduleFold(List.of(pollId));
+            }
+        }
+    }
+
+    // 인기 poll 목록은 메모리에만 있으므로 재시작 전에 합치지 못한 slot 행은 시작할 때 찾아 합침
+    private void scheduleLeftoverFoldsQuietly() {
+        try {
+            List<Long> pollIds = voteJdbcRepository.findShardedPollIds();
+            if (!pollIds.isEmpty()) {
+                log.info("합치지 못한 slot 행이 남은 poll {}개 합치기 예약", pollIds.size());
+                hotPollDetector.scheduleFold(pollIds);
+            }
+        } catch (Exception e) {
+            log.error("남은 slot 행 조회 실패: {}", e.getMessage());
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            int flushed = flush();
+            if (flushed > 0) {
+                log.debug("vote_counts {}건 반영", flushed);
+            }
+            int evicted = voteCounter.evictIdle(idleMs);
+            if (evicted > 0) {
+                log.debug("한가한 poll 카운터 {}개 내림", evicted);
+            }
+        } catch (Exception e) {
+            // 실패한 증분은 카운터에 그대로 남아 다음 주기에 다시 시도됨
+            log.error("vote_counts 반영 실패: {}", e.getMessage());
+        }
+    }
+
+    // 종료 시 예약된 작업을 멈추고 남은 증분을 마지막으로 한 번 더 씀
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(shutdownTimeoutMs, TimeUnit.MILLISECONDS)) {
+            executor.shutdownNow();
+        }
+        int flushed = flush();
+        log.info("종료 전 vote_counts {}건 반영, 남은 증분: {}", flushed, voteCounter.unflushedCount());
+    }
+}
@@ -0,0 +1,406 @@
+package com.everypoll.voteService.service;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+
+import com.everypoll.voteService.model.VoteCount;
+import com.everypoll.voteService.repository.VoteCountRepository;
+import com.everypoll.voteService.repository.VoteJdbcRepository;
+import com.everypoll.voteService.store.TallyJournal;
+import com.everypoll.voteService.store.TallyRecord;
+import com.everypoll.voteService.store.TallyState;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 선택지별 투표 수를 메모리의 LongAdder로 누적하는 카운터.
+ * 증가는 락 없이 스트라이프 셀에 더해지고, DB 반영은 VoteCountFlusher가 모아서 처리한다.
+ * 모든 변경은 TallyJournal에도 기록되어 재시작 시 votes 테이블을 다시 집계하지 않고 상태를 되살린다.
+ * flush마다 순번을 매겨 vote_flush_log에 같은 트랜잭션으로 남기므로, 커밋 직후 죽어도 재시작 시 같은 증분을 두 번 쓰지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VoteCounter {
+
+    private final VoteCountRepository voteCountRepository;
+    private final VoteJdbcRepository voteJdbcRepository;
+    private final TallyJournal tallyJournal;
+
+    private final ConcurrentHashMap<Long, PollTally> tallies = new ConcurrentHashMap<>();
+    private final LongAdder unflushed = new LongAdder();
+
+    // flush와 DB 기준값 로딩이 서로 끼어들지 않도록 막는 락 (증가 경로에서는 잡지 않음)
+    private final Object flushLock = new Object();
+    // 마지막으로 시작한 flush 순번, flushLock 안에서만 바뀜
+    private long flushSequence;
+
+    // 스냅샷과 저널 꼬리로 flush되지 않은 증분과 로딩된 기준값을 되살림
+    @PostConstruct
+    public void restore() throws IOException {
+        TallyState state = tallyJournal.recover();
+        resolveOpenFlushes(state);
+        flushSequence = state.getFlushSequence();
+        state.getPolls().forEach((pollId, poll) -> {
+            PollTally tally = tallies.computeIfAbsent(pollId, id -> new PollTally());
+            poll.getOptions().forEach((optionId, option) -> {
+                OptionCounter counter = tally.counter(optionId);
+                counter.total.add(option.getPending());
+                if (poll.isLoaded()) {
+                    counter.base = option.getPersisted();
+                }
+                unflushed.add(option.getPending());
+            });
+            tally.loaded = poll.isLoaded();
+            // 기준값이 없던 poll은 재시작 후 담당이 바뀌었을 수 있으므로 남은 증분만 쓰고 내림
+            tally.released = !poll.isLoaded();
+        });
+    }
+
+    public void increment(Long pollId, Long optionId) {
+        add(pollId, optionId, 1);
+    }
+
+    public void add(Long pollId, Long optionId, long delta) {
+        while (true) {
+            PollTally tally = tallies.computeIfAbsent(pollId, id -> new PollTally());
+            OptionCounter counter = tally.counter(optionId);
+            counter.total.add(delta);
+            if (!tally.evicting) {
+                tally.lastWriteMillis = System.currentTimeMillis();
+                break;
+            }
+            // 지워지는 중인 카운터에 더한 경우, 되돌리고 새 카운터에 다시 더함
+            counter.total.add(-delta);
+        }
+        unflushed.add(delta);
+        tallyJournal.append(TallyRecord.INCREMENT, pollId, optionId, delta);
+    }
+
+    // 아직 DB에 쓰이지 않은 증분의 합
+    public long unflushedCount() {
+        return unflushed.sum();
+    }
+
+    /**
+     * DB에 반영된 값과 대기 중인 증분을 합친 선택지별 투표 수.
+     * 조회만으로는 카운터를 만들지 않으며 (익명 조회로 메모리/저널이 늘지 않도록), 증분이 없는 poll은 vote_counts 값을 그대로 돌려준다.
+     */
+    public Map<Long, Long> getCounts(Long pollId) {
+        PollTally tally = tallies.get(pollId);
+        if (tally == null) {
+            return counts(voteCountRepository.findByPollId(pollId));
+        }
+        if (tally.released) {
+            synchronized (flushLock) {
+                return releasedCounts(tally, voteCountRepository.findByPollId(pollId));
+            }
+        }
+        return counts(loadedTally(pollId, tally));
+    }
+
+    // 기준값을 읽어 둔 poll만 메모리에서 바로 셈 (DB를 읽지 않음), 아니면 null
+    public Map<Long, Long> peekCounts(Long pollId) {
+        PollTally tally = tallies.get(pollId);
+        return tally == null || !tally.loaded ? null : counts(tally);
+    }
+
+    // 여러 poll을 한 번에 조회, 메모리에 없는 poll만 모아서 한 번의 IN 쿼리로 읽음
+    public Map<Long, Map<Long, Long>> getCounts(Collection<Long> pollIds) {
+        Map<Long, PollTally> requested = new LinkedHashMap<>();
+        List<Long> missing = new ArrayList<>();
+        for (Long pollId : pollIds) {
+            PollTally tally = tallies.get(pollId);
+            requested.put(pollId, tally);
+            if (tally == null || !tally.loaded) {
+                missing.add(pollId);
+            }
+        }
+
+        Map<Long, List<VoteCount>> rows = Map.of();
+        Map<Long, Map<Long, Long>> released = new HashMap<>();
+        if (!missing.isEmpty()) {
+            synchronized (flushLock) {
+                rows = voteCountRepository.findByPollIdIn(missing).stream()
+                        .collect(Collectors.groupingBy(VoteCount::getPollId));
+                for (Long pollId : missing) {
+                    PollTally tally = requested.get(pollId);
+                    if (tally == null) {
+                        continue;
+                    }
+                    if (tally.released) {
+                        released.put(pollId, releasedCounts(tally, rows.getOrDefault(pollId, List.of())));
+                    } else if (!tally.loaded) {
+                        load(pollId, tally, rows.getOrDefault(pollId, List.of()));
+                    }
+                }
+            }
+        }
+
+        Map<Long, Map<Long, Long>> counts = new LinkedHashMap<>();
+        for (Map.Entry<Long, PollTally> entry : requested.entrySet()) {
+            Long pollId = entry.getKey();
+            PollTally tally = entry.getValue();
+            if (tally == null) {
+                counts.put(pollId, counts(rows.getOrDefault(pollId, List.of())));
+            } else {
+                counts.put(pollId, released.containsKey(pollId) ? released.get(pollId) : counts(tally));
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * 마지막 flush 이후의 증분을 모아 순번과 함께 writer에 넘긴다. writer는 같은 트랜잭션에서 순번을 vote_flush_log에 남겨야 한다.
+     * 저널에는 쓰기 전에 묶음(BEGIN + FLUSHED)을, 끝나면 COMMIT/ABORT를 남기므로 그 사이에 죽으면 재시작 시 DB의 순번으로 확정한다.
+     * writer가 실패하면 표시를 옮기지 않으므로 다음 flush에서 같은 증분을 다시 시도한다.
+     */
+    public int flush(BiConsumer<Long, List<VoteCountDelta>> writer) {
+        synchronized (flushLock) {
+            List<VoteCountDelta> deltas = new ArrayList<>();
+            List<OptionCounter> counters = new ArrayList<>();
+            List<Long> marks = new ArrayList<>();
+
+            tallies.forEach((pollId, tally) -> tally.options.forEach((optionId, counter) -> {
+                long total = counter.total.sum();
+                long delta = total - counter.flushedMark;
+                if (delta != 0) {
+                    deltas.add(new VoteCountDelta(pollId, optionId, delta));
+                    counters.add(counter);
+                    marks.add(total);
+                }
+            }));
+
+            if (deltas.isEmpty()) {
+                return 0;
+            }
+
+            long sequence = ++flushSequence;
+            tallyJournal.append(TallyRecord.FLUSH_BEGIN, 0, 0, sequence);
+            deltas.forEach(delta -> tallyJournal.append(TallyRecord.FLUSHED, delta.getPollId(), delta.getOptionId(), delta.getDelta()));
+            try {
+                writer.accept(sequence, deltas);
+            } catch (RuntimeException e) {
+                // 커밋 응답만 잃은 경우는 DB에 순번이 남아 있으므로 성공으로 봄
+                if (!isCommitted(sequence)) {
+                    tallyJournal.append(TallyRecord.FLUSH_ABORT, 0, 0, sequence);
+                    throw e;
+                }
+            }
+            tallyJournal.append(TallyRecord.FLUSH_COMMIT, 0, 0, sequence);
+
+            long flushed = 0;
+            for (int i = 0; i < counters.size(); i++) {
+                counters.get(i).flushedMark = marks.get(i);
+                flushed += deltas.get(i).getDelta();
+            }
+            unflushed.add(-flushed);
+
+            // 넘겨준 poll은 남은 증분이 다 쓰이는 대로 내림
+            tallies.forEach((pollId, tally) -> {
+                if (tally.released) {
+                    remove(pollId, tally);
+                }
+            });
+            return deltas.size();
+        }
+    }
+
+    // 커밋 여부를 모르고 끝난 flush 묶음을 DB에 남은 순번으로 확정하고, 다음 복구를 위해 결과를 저널에 남김
+    private void resolveOpenFlushes(TallyState state) {
+        if (state.getOpenFlushes().isEmpty()) {
+            return;
+        }
+        long committed = voteJdbcRepository.findFlushSequence(tallyJournal.nodeId());
+        for (Long sequence : List.copyOf(state.getOpenFlushes().keySet())) {
+            boolean applied = sequence <= committed;
+            state.resolveFlush(sequence, applied);
+            tallyJournal.append(applied ? TallyRecord.FLUSH_COMMIT : TallyRecord.FLUSH_ABORT, 0, 0, sequence);
+            log.info("집계 저널의 flush {}번을 {}로 확정", sequence, applied ? "커밋" : "취소");
+        }
+    }
+
+    private boolean isCommitted(long sequence) {
+        String nodeId = tallyJournal.nodeId();
+        if (nodeId == null) {
+            return false;
+        }
+        try {
+            return voteJdbcRepository.findFlushSequence(nodeId) >= sequence;
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    // 증분이 들어온 poll은 처음 조회될 때 vote_counts에서 기준값을 한 번만 읽어 옴
+    private PollTally loadedTally(Long pollId, PollTally tally) {
+        if (!tally.loaded) {
+            synchronized (flushLock) {
+                if (!tally.loaded) {
+                    load(pollId, tally, voteCountRepository.findByPollId(pollId));
+                }
+            }
+        }
+        return tally;
+    }
+
+    /**
+     * 다른 노드로 넘어간 poll을 메모리에서 지운다. 호출 전에 flush해야 하며,
+     * 아직 DB에 쓰이지 않은 증분이 남은 poll은 flusher가 마저 쓰도록 남기되, 그동안 조회는 기준값을 두지 않고
+     * 매번 vote_counts(새 담당 노드가 쓰는 값)에 남은 증분을 더해 답하고 다 쓰이면 내린다.
+     */
+    public int evict(Collection<Long> pollIds) {
+        int evicted = 0;
+        synchronized (flushLock) {
+            for (Long pollId : pollIds) {
+                PollTally tally = tallies.get(pollId);
+                if (tally == null) {
+                    continue;
+                }
+                if (remove(pollId, tally)) {
+                    evicted++;
+                } else {
+                    tally.released = true;
+                    tally.loaded = false;
+                    tallyJournal.append(TallyRecord.UNLOADED, pollId, 0, 0);
+                }
+            }
+        }
+        return evicted;
+    }
+
+    /**
+     * 마지막 증분 이후 idleMillis 동안 조용했고 증분이 모두 DB에 쓰인 poll을 메모리에서 지운다.
+     * 카운터는 투표가 들어온 poll에만 생기지만 한 번 생기면 남아 있으므로, flush 주기마다 불러 활성 poll 수로 묶어 둔다.
+     */
+    public int evictIdle(long idleMillis) {
+        long cutoff = System.currentTimeMillis() - idleMillis;
+        List<Long> idle = tallies.entrySet().stream()
+                .filter(entry -> entry.getValue().lastWriteMillis < cutoff)
+                .map(Map.Entry::getKey)
+                .toList();
+        if (idle.isEmpty()) {
+            return 0;
+        }
+        int evicted = 0;
+        synchronized (flushLock) {
+            for (Long pollId : idle) {
+                PollTally tally = tallies.get(pollId);
+                if (tally != null && tally.lastWriteMillis < cutoff && remove(pollId, tally)) {
+                    evicted++;
+                }
+            }
+        }
+        return evicted;
+    }
+
+    // poll에 아직 DB에 쓰이지 않은 증분이 있는지
+    public boolean hasUnflushed(Long pollId) {
+        PollTally tally = tallies.get(pollId);
+        if (tally == null) {
+            return false;
+        }
+        synchronized (flushLock) {
+            return tally.options.values().stream()
+                    .anyMatch(counter -> counter.total.sum() != counter.flushedMark);
+        }
+    }
+
+    public Set<Long> pollIds() {
+        return tallies.keySet();
+    }
+
+    // flushLock 안에서 읽은 vote_counts 행으로 기준값을 채움
+    private void load(Long pollId, PollTally tally, List<VoteCount> rows) {
+        tallyJournal.append(TallyRecord.LOADED, pollId, 0, 0);
+        // 인기 poll은 선택지당 slot 행이 여러 개이므로 더해서 기준값으로 씀
+        counts(rows).forEach((optionId, persisted) -> {
+            OptionCounter counter = tally.counter(optionId);
+            // DB 값에는 이미 flush된 증분이 들어 있으므로 그만큼 빼서 이중 집계를 막음
+            counter.base = persisted - counter.flushedMark;
+            tallyJournal.append(TallyRecord.BASE, pollId, optionId, persisted);
+        });
+        tally.loaded = true;
+    }
+
+    /**
+     * flushLock 안에서 증분이 모두 DB에 쓰인 카운터를 지운다.
+     * 먼저 evicting을 세우고 합계를 읽으므로, 그 사이 더해진 증분은 여기서 보이거나 (지우지 않음) add가 표시를 보고 다시 더한다.
+     */
+    private boolean remove(Long pollId, PollTally tally) {
+        tally.evicting = true;
+        if (!isFlushed(tally)) {
+            tally.evicting = false;
+            return false;
+        }
+        tallies.remove(pollId);
+        tallyJournal.append(TallyRecord.EVICTED, pollId, 0, 0);
+        return true;
+    }
+
+    // flushLock 안에서 읽은 vote_counts 행에 아직 쓰이지 않은 증분을 더함
+    private static Map<Long, Long> releasedCounts(PollTally tally, List<VoteCount> rows) {
+        Map<Long, Long> counts = counts(rows);
+        tally.options.forEach((optionId, counter) -> counts.merge(optionId, counter.total.sum() - counter.flushedMark, Long::sum));
+        return counts;
+    }
+
+    private static boolean isFlushed(PollTally tally) {
+        return tally.options.values().stream()
+                .allMatch(counter -> counter.total.sum() == counter.flushedMark);
+    }
+
+    private static Map<Long, Long> counts(List<VoteCount> rows) {
+        Map<Long, Long> counts = new TreeMap<>();
+        rows.forEach(row -> counts.merge(row.getOptionId(), row.getVoteCount(), Long::sum));
+        return counts;
+    }
+
+    private static Map<Long, Long> counts(PollTally tally) {
+        Map<Long, Long> counts = new TreeMap<>();
+        tally.options.forEach((optionId, counter) -> counts.put(optionId, counter.current()));
+        return counts;
+    }
+
+    private static final class PollTally {
+        private final ConcurrentHashMap<Long, OptionCounter> options = new ConcurrentHashMap<>();
+        private volatile boolean loaded;
+        // 마지막 증분 시각, 복구된 카운터는 복구 시각부터 셈
+        private volatile long lastWriteMillis = System.currentTimeMillis();
+        private volatile boolean evicting;
+        // 다른 노드로 넘어갔지만 쓰이지 않은 증분이 남은 poll
+        private volatile boolean released;
+
+        private OptionCounter counter(Long optionId) {
+            return options.computeIfAbsent(optionId, id -> new OptionCounter());
+        }
+    }
+
+    private static final class OptionCounter {
+        // 카운터 생성 이후 들어온 증분의 누계 (리셋하지 않음)
+        private final LongAdder total = new LongAdder();
+        // total 중 DB에 반영된 지점, flushLock 안에서만 바뀜
+        private long flushedMark;
+        // DB 기준값 - 로딩 시점의 flushedMark
+        private volatile long base;
+
+        private long current() {
+            return base + total.sum();
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.everypoll.voteService.service;
+
+import java.util.Arrays;
+
+import org.springframework.http.MediaType;
+
+import com.everypoll.voteService.exception.InvalidExportFormatException;
+
+// 투표 원본 내보내기 형식
+public enum VoteExportFormat {
+    CSV("csv", new MediaType("text", "csv")),
+    NDJSON("ndjson", MediaType.APPLICATION_NDJSON);
+
+    private final String label;
+    private final MediaType mediaType;
+
+    VoteExportFormat(String label, MediaType mediaType) {
+        this.label = label;
+        this.mediaType = mediaType;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public static VoteExportFormat from(String label) {
+        return Arrays.stream(values())
+                .filter(format -> format.label.equalsIgnoreCase(label))
+                .findFirst()
+                .orElseThrow(() -> new InvalidExportFormatException(label));
+    }
+}
@@ -0,0 +1,129 @@
+package com.everypoll.voteService.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Semaphore;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.everypoll.voteService.exception.PollCatalogUnavailableException;
+import com.everypoll.voteService.exception.PollExportForbiddenException;
+import com.everypoll.voteService.exception.PollNotFoundException;
+import com.everypoll.voteService.exception.VoteExportLimitException;
+import com.everypoll.voteService.repository.VoteJdbcRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * poll 작성자용 투표 원본 내보내기.
+ * DB 커서에서 읽은 행을 바로 응답 스트림에 쓰므로 poll 크기와 관계없이 메모리 사용량이 일정하다.
+ * 내보내기 하나가 끝날 때까지 DB 연결과 커서를 잡고 있으므로 동시에 쓸 수 있는 내보내기 수를 제한한다.
+ */
+@Service
+public class VoteExportService {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final VoteJdbcRepository voteJdbcRepository;
+    private final PollCatalog pollCatalog;
+    private final ObjectMapper objectMapper;
+    private final int maxConcurrent;
+    private final Semaphore permits;
+
+    public VoteExportService(VoteJdbcRepository voteJdbcRepository, PollCatalog pollCatalog, ObjectMapper objectMapper,
+            @Value("${vote.export.max-concurrent:2}") int maxConcurrent) {
+        this.voteJdbcRepository = voteJdbcRepository;
+        this.pollCatalog = pollCatalog;
+        this.objectMapper = objectMapper;
+        this.maxConcurrent = maxConcurrent;
+        this.permits = new Semaphore(maxConcurrent);
+    }
+
+    // 권한 확인은 응답을 쓰기 전에 끝냄 (스트림이 시작되면 상태 코드를 바꿀 수 없음)
+    public StreamingResponseBody export(Long pollId, Long userId, VoteExportFormat format) {
+        checkOwner(pollId, userId);
+        return switch (format) {
+            case CSV -> outputStream -> withPermit(() -> writeCsv(pollId, outputStream));
+            case NDJSON -> outputStream -> withPermit(() -> writeNdjson(pollId, outputStream));
+        };
+    }
+
+    // 자리가 없으면 아무것도 쓰기 전에 429, 실제로 쓰는 스레드에서 잡고 놓으므로 시작하지 못한 내보내기가 자리를 차지하지 않음
+    private void withPermit(ExportWriter writer) throws IOException {
+        if (!permits.tryAcquire()) {
+            throw new VoteExportLimitException(maxConcurrent);
+        }
+        try {
+            writer.write();
+        } finally {
+            permits.release();
+        }
+    }
+
+    @FunctionalInterface
+    private interface ExportWriter {
+        void write() throws IOException;
+    }
+
+    private void checkOwner(Long pollId, Long userId) {
+        if (!pollCatalog.isReady()) {
+            throw new PollCatalogUnavailableException();
+        }
+        String owner = pollCatalog.ownerOf(pollId);
+        if (owner == null) {
+            throw new PollNotFoundException(pollId);
+        }
+        // createdBy는 JWT subject(사용자 id) 문자열
+        if (!owner.equals(String.valueOf(userId))) {
+            throw new PollExportForbiddenException(pollId, userId);
+        }
+    }
+
+    private void writeCsv(Long pollId, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), BUFFER_SIZE);
+        writer.write("voteId,optionId,userId,createdAt\n");
+        voteJdbcRepository.streamVotes(pollId, rs -> {
+            try {
+                writer.write(Long.toString(rs.getLong(1)));
+                writer.write(',');
+                writer.write(Long.toString(rs.getLong(2)));
+                writer.write(',');
+                writer.write(Long.toString(rs.getLong(3)));
+                writer.write(',');
+                writer.write(rs.getTimestamp(4).toLocalDateTime().toString());
+                writer.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        writer.flush();
+    }
+
+    // 한 줄에 투표 하나 (application/x-ndjson)
+    private void writeNdjson(Long pollId, OutputStream outputStream) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.setRootValueSeparator(new SerializedString("\n"));
+            voteJdbcRepository.streamVotes(pollId, rs -> {
+                try {
+                    generator.writeStartObject();
+                    generator.writeNumberField("voteId", rs.getLong(1));
+                    generator.writeNumberField("optionId", rs.getLong(2));
+                    generator.writeNumberField("userId", rs.getLong(3));
+                    generator.writeStringField("createdAt", rs.getTimestamp(4).toLocalDateTime().toString());
+                    generator.writeEndObject();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            generator.writeRaw('\n');
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.everypoll.voteService.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.everypoll.voteService.dto.ReconcileStatsResponse;
+import com.everypoll.voteService.repository.VoteJdbcRepository;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * votes(원본)와 vote_counts(집계)의 차이를 주기적으로 찾아 고치는 정합성 검사.
+ * watermark 이후 투표가 들어온 poll만 검사하므로 비용은 전체 데이터가 아니라 최근 활동량에 비례한다.
+ * 투표 저장과 카운터 반영 사이의 지연을 오차로 보지 않도록, 마지막 투표 후 settle 시간이 지난 poll만 고친다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VoteReconciler {
+
+    private final VoteJdbcRepository voteJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final VoteCounter voteCounter;
+    private final PollResultViewCache pollResultViewCache;
+    private final PollOwnership pollOwnership;
+
+    @Value("${vote.reconcile.enabled:true}")
+    private boolean enabled;
+
+    @Value("${vote.reconcile.interval-ms:60000}")
+    private long intervalMs;
+
+    // 마지막 투표 후 이 시간이 지나야 검사함, flush 주기보다 충분히 길어야 함
+    @Value("${vote.reconcile.settle-ms:10000}")
+    private long settleMs;
+
+    // 시작 시 처음 살펴볼 과거 구간
+    @Value("${vote.reconcile.initial-lookback-ms:3600000}")
+    private long initialLookbackMs;
+
+    // 트랜잭션 하나에서 검사하는 poll 수
+    @Value("${vote.reconcile.batch-size:50}")
+    private int batchSize;
+
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "vote-reconciler");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 이 시각 이후에 투표가 들어온 poll이 다음 검사 대상, reconciler 스레드에서만 바뀜
+    private volatile LocalDateTime watermark;
+    // 이 인스턴스에 flush 안 된 증분이 남아 있어 다음 주기로 미룬 poll, reconciler 스레드에서만 씀
+    private final Set<Long> retry = new HashSet<>();
+
+    private final AtomicLong runs = new AtomicLong();
+    private final AtomicLong pollsChecked = new AtomicLong();
+    private final AtomicLong pollsDeferred = new AtomicLong();
+    private final AtomicLong pollsRepaired = new AtomicLong();
+    private final AtomicLong votesDrifted = new AtomicLong();
+    private volatile long lastRunMillis;
+    private volatile long lastRunPolls;
+
+    @PostConstruct
+    public void start() {
+        watermark = LocalDateTime.now().minusNanos(TimeUnit.MILLISECONDS.toNanos(initialLookbackMs));
+        if (enabled) {
+            executor.scheduleWithFixedDelay(this::reconcileQuietly, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public int reconcile() {
+        long startedAt = System.currentTimeMillis();
+        LocalDateTime settledBefore = LocalDateTime.now().minusNanos(TimeUnit.MILLISECONDS.toNanos(settleMs));
+        Map<Long, LocalDateTime> recent = voteJdbcRepository.findPollsVotedSince(watermark);
+
+        // 지난번에 flush 대기로 미룬 poll은 watermark 이전이라도 다시 봄
+        retry.forEach(pollId -> recent.putIfAbsent(pollId, watermark));
+        retry.clear();
+
+        // 아직 투표가 이어지는 poll은 마지막 투표가 settledBefore 이후라 다음 watermark에서 다시 잡힘
+        List<Long> candidates = new ArrayList<>();
+        recent.forEach((pollId, lastVotedAt) -> {
+            // poll의 vote-cast 파티션을 받은 노드 하나만 검사함
+            // (다른 노드가 고치면 그 노드가 볼 수 없는 이 노드의 flush 전 증분이 두 번 더해짐)
+            if (!pollOwnership.consumes(pollId)) {
+                return;
+            }
+            if (!lastVotedAt.isBefore(settledBefore)) {
+                pollsDeferred.incrementAndGet();
+            } else if (voteCounter.hasUnflushed(pollId)) {
+                pollsDeferred.incrementAndGet();
+                retry.add(pollId);
+            } else {
+                candidates.add(pollId);
+            }
+        });
+        // 다시 볼 필요가 없는 구간만 넘김 (settledBefore 이후 투표가 있는 poll은 다음 조회에 포함됨)
+        LocalDateTime nextWatermark = settledBefore.isAfter(watermark) ? settledBefore : watermark;
+
+        int repaired = 0;
+        for (int from = 0; from < candidates.size(); from += batchSize) {
+            List<Long> batch = candidates.subList(from, Math.min(from + batchSize, candidates.size()));
+            repaired += repairBatch(batch, settledBefore);
+        }
+
+        watermark = nextWatermark;
+        runs.incrementAndGet();
+        pollsChecked.addAndGet(candidates.size());
+        lastRunPolls = candidates.size();
+        lastRunMillis = System.currentTimeMillis() - startedAt;
+        return repaired;
+    }
+
+    // 한 트랜잭션에서 poll 몇 개를 검사하고, 어긋난 선택지는 차이만큼 vote_counts 행에 더함
+    private int repairBatch(List<Long> pollIds, LocalDateTime settledBefore) {
+        Set<Long> repaired = new HashSet<>();
+        transactionTemplate.executeWithoutResult(status -> {
+            List<VoteCountDelta> corrections = new ArrayList<>();
+            for (Long pollId : pollIds) {
+                Map<Long, Long> recorded = voteJdbcRepository.lockVoteCounts(pollId);
+                Map<Long, Long> actual = voteJdbcRepository.countVotes(pollId);
+                // 검사 대상으로 고른 뒤 새 투표가 들어왔으면 카운터에 아직 안 올라갔을 수 있으므로 다음으로 미룸
+                LocalDateTime lastVotedAt = voteJdbcRepository.findLastVotedAt(pollId);
+                if (lastVotedAt != null && !lastVotedAt.isBefore(settledBefore)) {
+                    pollsDeferred.incrementAndGet();
+                    continue;
+                }
+
+                Map<Long, Long> drift = new HashMap<>(actual);
+                recorded.forEach((optionId, count) -> drift.merge(optionId, -count, Long::sum));
+                drift.forEach((optionId, delta) -> {
+                    if (delta != 0) {
+                        corrections.add(new VoteCountDelta(pollId, optionId, delta));
+                        votesDrifted.addAndGet(Math.abs(delta));
+                        repaired.add(pollId);
+                    }
+                });
+            }
+            voteJdbcRepository.upsertVoteCounts(corrections);
+        });
+
+        // 고친 poll은 메모리 집계를 버리고 다음 조회 때 vote_counts에서 다시 읽게 함
+        if (!repaired.isEmpty()) {
+            voteCounter.evict(repaired);
+            pollResultViewCache.evict(repaired);
+            pollsRepaired.addAndGet(repaired.size());
+            log.warn("vote_counts 불일치 poll {}개 수정: {}", repaired.size(), repaired);
+        }
+        return repaired.size();
+    }
+
+    public ReconcileStatsResponse stats() {
+        return ReconcileStatsResponse.builder()
+                .watermark(watermark)
+                .runs(runs.get())
+                .pollsChecked(pollsChecked.get())
+                .pollsDeferred(pollsDeferred.get())
+                .pollsRepaired(pollsRepaired.get())
+                .votesDrifted(votesDrifted.get())
+                .lastRunMillis(lastRunMillis)
+                .lastRunPolls(lastRunPolls)
+                .build();
+    }
+
+    private void reconcileQuietly() {
+        try {
+            int repaired = reconcile();
+            log.debug("정합성 검사 완료, poll {}개 검사, {}개 수정", lastRunPolls, repaired);
+        } catch (Exception e) {
+            // watermark를 옮기지 않았으므로 다음 주기에 같은 구간을 다시 검사함
+            log.error("정합성 검사 실패: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,23 @@
+package com.everypoll.voteService.service;
+
+import java.util.List;
+import java.util.Map;
+
+import com.everypoll.voteService.dto.HotPollResponse;
+import com.everypoll.voteService.dto.IdempotencyStatsResponse;
+import com.everypoll.voteService.dto.PollResultView;
+import com.everypoll.voteService.dto.ReconcileStatsResponse;
+import com.everypoll.voteService.dto.VoteRequest;
+import com.everypoll.voteService.dto.VoteResponse;
+import com.everypoll.voteService.dto.VoterFilterStatsResponse;
+
+public interface VoteService {
+    VoteResponse castVote(VoteRequest request, Long userId);
+    VoteResponse castVote(VoteRequest request, Long userId, String idempotencyKey);
+    PollResultView getResults(Long pollId);
+    Map<Long, Map<Long, Long>> getResults(List<Long> pollIds);
+    VoterFilterStatsResponse getVoterFilterStats();
+    List<HotPollResponse> getHotPolls();
+    IdempotencyStatsResponse getIdempotencyStats();
+    ReconcileStatsResponse getReconcileStats();
+}
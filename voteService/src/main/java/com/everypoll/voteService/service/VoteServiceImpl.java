@@ -0,0 +1,150 @@
+package com.everypoll.voteService.service;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.everypoll.common.dto.VoteCastEvent;
+import com.everypoll.voteService.dto.HotPollResponse;
+import com.everypoll.voteService.dto.IdempotencyStatsResponse;
+import com.everypoll.voteService.dto.PollResultView;
+import com.everypoll.voteService.dto.ReconcileStatsResponse;
+import com.everypoll.voteService.dto.VoteRequest;
+import com.everypoll.voteService.dto.VoteResponse;
+import com.everypoll.voteService.dto.VoterFilterStatsResponse;
+import com.everypoll.voteService.exception.DuplicateVoteException;
+import com.everypoll.voteService.exception.InvalidVoteOptionException;
+import com.everypoll.voteService.exception.PollCatalogUnavailableException;
+import com.everypoll.voteService.exception.PollNotFoundException;
+import com.everypoll.voteService.exception.TooManyPollIdsException;
+import com.everypoll.voteService.exception.VoteIngestionException;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class VoteServiceImpl implements VoteService {
+
+    private final KafkaProducerService kafkaProducerService;
+    private final VoteCounter voteCounter;
+    private final DuplicateVoteFilter duplicateVoteFilter;
+    private final IdempotencyCache idempotencyCache;
+    private final PollResultViewCache pollResultViewCache;
+    private final PollCatalog pollCatalog;
+    private final VoteReconciler voteReconciler;
+    private final HotPollDetector hotPollDetector;
+
+    @Value("${vote.kafka.send-timeout-ms:3000}")
+    private long sendTimeoutMs;
+
+    @Value("${vote.catalog.validate:true}")
+    private boolean validateOptions;
+
+    @Value("${vote.results.max-poll-ids:100}")
+    private int maxPollIds;
+
+    // CREATE: 투표는 vote-cast-topic에 기록만 하고, 저장은 VoteEventListener가 묶음으로 처리
+    @Override
+    public VoteResponse castVote(VoteRequest request, Long userId) {
+        // 선택지가 그 poll의 것인지 로컬 복제본으로 확인 (pollService 호출 없음)
+        if (validateOptions) {
+            if (!pollCatalog.isReady()) {
+                throw new PollCatalogUnavailableException();
+            }
+            if (!pollCatalog.contains(request.getPollId(), request.getOptionId())) {
+                throw new InvalidVoteOptionException(request.getPollId(), request.getOptionId());
+            }
+        }
+
+        // 이미 투표한 사용자는 Kafka/DB까지 보내지 않고 바로 거절
+        if (duplicateVoteFilter.hasVoted(request.getPollId(), userId)) {
+            throw new DuplicateVoteException(request.getPollId(), userId);
+        }
+
+        VoteCastEvent event = VoteCastEvent.builder()
+                .pollId(request.getPollId())
+                .optionId(request.getOptionId())
+                .userId(userId)
+                .votedAt(System.currentTimeMillis())
+                .build();
+
+        try {
+            // 브로커가 기록을 확인한 뒤에 202를 돌려줌
+            kafkaProducerService.sendVoteCastEvent(event).get(sendTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new VoteIngestionException(request.getPollId(), e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new VoteIngestionException(request.getPollId(), e);
+        }
+
+        return VoteResponse.builder()
+                .pollId(event.getPollId())
+                .optionId(event.getOptionId())
+                .userId(event.getUserId())
+                .build();
+    }
+
+    // 재시도한 요청은 MySQL이나 Kafka까지 가지 않고 처음 응답으로 답함
+    @Override
+    public VoteResponse castVote(VoteRequest request, Long userId, String idempotencyKey) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return castVote(request, userId);
+        }
+        return idempotencyCache.execute(userId, idempotencyKey, request, () -> castVote(request, userId));
+    }
+
+    // READ: 미리 계산된 결과 뷰를 캐시에서 꺼냄 (없을 때만 카운터로 만듦)
+    @Override
+    public PollResultView getResults(Long pollId) {
+        // 없는 poll id로 뷰 캐시를 채우지 않도록 복제본에 없는 poll은 404
+        if (isUnknownPoll(pollId)) {
+            throw new PollNotFoundException(pollId);
+        }
+        return pollResultViewCache.get(pollId);
+    }
+
+    // 홈 피드처럼 여러 poll 카드의 결과를 한 번에 조회 (요청 순서 유지, 중복 id는 한 번만)
+    @Override
+    public Map<Long, Map<Long, Long>> getResults(List<Long> pollIds) {
+        // 중복을 걸러 내기 전 요청 크기로 막음 (같은 id를 수만 번 넣은 요청도 400)
+        if (pollIds.size() > maxPollIds) {
+            throw new TooManyPollIdsException(pollIds.size(), maxPollIds);
+        }
+        LinkedHashSet<Long> distinct = new LinkedHashSet<>(pollIds);
+        // 복제본에 없는 (삭제되었거나 없는) poll은 결과에서 뺌
+        distinct.removeIf(this::isUnknownPoll);
+        return voteCounter.getCounts(distinct);
+    }
+
+    // 복제본이 준비되기 전에는 판단하지 않음 (조회는 카운터를 만들지 않으므로 그대로 DB 값을 돌려줘도 됨)
+    private boolean isUnknownPoll(Long pollId) {
+        return validateOptions && pollCatalog.isReady() && !pollCatalog.containsPoll(pollId);
+    }
+
+    @Override
+    public VoterFilterStatsResponse getVoterFilterStats() {
+        return duplicateVoteFilter.stats();
+    }
+
+    @Override
+    public List<HotPollResponse> getHotPolls() {
+        return hotPollDetector.getHotPolls();
+    }
+
+    @Override
+    public IdempotencyStatsResponse getIdempotencyStats() {
+        return idempotencyCache.stats();
+    }
+
+    @Override
+    public ReconcileStatsResponse getReconcileStats() {
+        return voteReconciler.stats();
+    }
+}
@@ -0,0 +1,312 @@
+package com.everypoll.voteService.service;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.everypoll.common.dto.VoteTallyEvent;
+import com.everypoll.voteService.dto.PollResultView;
+import com.everypoll.voteService.dto.VoteDeltaFrame;
+import com.everypoll.voteService.exception.VoteStreamLimitException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 투표 결과 SSE 구독 관리.
+ * vote-tally-topic에서 들어온 증분을 poll별로 짧은 구간 동안 합친 뒤,
+ * 구간마다 한 번만 직렬화한 frame을 구독자별 제한된 큐에 넣는다. 실제 전송은 sender 스레드가 구독자마다 따로 하고,
+ * 큐가 가득 찬 (따라오지 못하는) 구독자는 끊어서 느린 클라이언트가 다른 구독자를 붙잡지 않게 한다.
+ * 총 투표 수를 버전으로 써서, 구독 직후 보낸 snapshot에 이미 들어간 증분은 다시 보내지 않는다.
+ * 구독은 로그인 없이 열 수 있으므로 전체와 클라이언트(사용자 id 또는 IP)별 동시 구독 수를 제한한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class VoteStreamService {
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${vote.stream.coalesce-ms:200}")
+    private long coalesceMs;
+
+    @Value("${vote.stream.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    // 구독자마다 쌓아 두는 frame 수, 넘치면 그 구독자를 끊음
+    @Value("${vote.stream.queue-size:64}")
+    private int queueSize;
+
+    @Value("${vote.stream.sender-threads:4}")
+    private int senderThreads;
+
+    // 동시 구독 상한, 넘는 구독은 429
+    @Value("${vote.stream.max-subscribers:10000}")
+    private int maxSubscribers;
+
+    @Value("${vote.stream.max-subscribers-per-client:4}")
+    private int maxSubscribersPerClient;
+
+    private final ConcurrentHashMap<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    // 아직 내보내지 않은 poll별 증분
+    private final ConcurrentHashMap<Long, PendingFrame> pending = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberTotal = new AtomicInteger();
+    // 클라이언트 키별 구독 수, 0이 되면 지움
+    private final ConcurrentHashMap<String, Integer> clientSubscribers = new ConcurrentHashMap<>();
+
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "vote-stream-publisher");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private ExecutorService senders;
+
+    @PostConstruct
+    public void start() {
+        AtomicInteger threadCount = new AtomicInteger();
+        senders = Executors.newFixedThreadPool(senderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "vote-stream-sender-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleAtFixedRate(this::publishPending, coalesceMs, coalesceMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 구독자를 먼저 등록한 뒤 현재 집계(snapshot)를 읽어 보내므로, 그 사이에 들어온 증분도 놓치지 않는다.
+     * snapshot의 총 투표 수보다 앞선 증분 frame은 버리고, 걸쳐 있는 frame은 그 시점의 집계로 다시 보낸다.
+     * clientKey는 RateLimitFilter와 같은 키(user:id 또는 ip:주소)이며, 자리가 없으면 아무것도 열기 전에 429.
+     */
+    public SseEmitter subscribe(Long pollId, String clientKey, Supplier<PollResultView> snapshot) {
+        acquireSlot(clientKey);
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Subscriber subscriber = new Subscriber(pollId, clientKey, emitter, new ArrayBlockingQueue<>(queueSize));
+        subscribers.computeIfAbsent(pollId, id -> new CopyOnWriteArraySet<>()).add(subscriber);
+
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> unsubscribe(subscriber));
+        emitter.onError(e -> unsubscribe(subscriber));
+
+        PollResultView view;
+        try {
+            view = snapshot.get();
+        } catch (RuntimeException e) {
+            unsubscribe(subscriber);
+            throw e;
+        }
+        subscriber.baseline = view.getTotalVotes();
+        try {
+            emitter.send(SseEmitter.event().name("snapshot").data(view, MediaType.APPLICATION_JSON));
+        } catch (IOException e) {
+            unsubscribe(subscriber);
+            emitter.completeWithError(e);
+            return emitter;
+        }
+        // 생성 시 잡아 둔 전송 권한을 놓고, 그동안 쌓인 frame을 보냄
+        subscriber.draining.set(false);
+        subscriber.scheduleDrain();
+        return emitter;
+    }
+
+    // 구독자가 없는 poll의 증분은 모으지 않음, totals는 모든 집계 이벤트에 들어 있음
+    public void onTally(VoteTallyEvent event) {
+        if (!subscribers.containsKey(event.getPollId())) {
+            return;
+        }
+        Objects.requireNonNull(event.getTotals(), () -> "poll " + event.getPollId() + " 집계 이벤트에 totals가 없음");
+        pending.compute(event.getPollId(), (pollId, frame) -> {
+            PendingFrame merged = frame == null ? new PendingFrame() : frame;
+            event.getDeltas().forEach((optionId, delta) -> merged.deltas.merge(optionId, delta, Long::sum));
+            merged.totals = event.getTotals();
+            return merged;
+        });
+    }
+
+    public int subscriberCount(Long pollId) {
+        Set<Subscriber> emitters = subscribers.get(pollId);
+        return emitters == null ? 0 : emitters.size();
+    }
+
+    private void publishPending() {
+        for (Long pollId : pending.keySet()) {
+            PendingFrame pendingFrame = pending.remove(pollId);
+            Set<Subscriber> pollSubscribers = subscribers.get(pollId);
+            if (pendingFrame == null || pollSubscribers == null || pollSubscribers.isEmpty()) {
+                continue;
+            }
+
+            long toTotal = pendingFrame.totals.values().stream().mapToLong(Long::longValue).sum();
+            long fromTotal = toTotal - pendingFrame.deltas.values().stream().mapToLong(Long::longValue).sum();
+
+            String json;
+            try {
+                // frame은 poll당 한 번만 직렬화하고 같은 문자열을 모든 구독자에게 씀
+                json = objectMapper.writeValueAsString(VoteDeltaFrame.builder()
+                        .pollId(pollId)
+                        .deltas(pendingFrame.deltas)
+                        .totalVotes(toTotal)
+                        .emittedAt(System.currentTimeMillis())
+                        .build());
+            } catch (JsonProcessingException e) {
+                log.error("poll {} frame 직렬화 실패: {}", pollId, e.getMessage());
+                continue;
+            }
+
+            Frame frame = new Frame(json, fromTotal, toTotal, pendingFrame.totals);
+            for (Subscriber subscriber : pollSubscribers) {
+                subscriber.offer(frame);
+            }
+        }
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.pollId, (id, pollSubscribers) -> {
+            pollSubscribers.remove(subscriber);
+            return pollSubscribers.isEmpty() ? null : pollSubscribers;
+        });
+        // 완료/타임아웃/오류 콜백이 겹쳐 불려도 자리는 한 번만 돌려줌
+        if (subscriber.released.compareAndSet(false, true)) {
+            releaseSlot(subscriber.clientKey);
+        }
+    }
+
+    private void acquireSlot(String clientKey) {
+        if (subscriberTotal.incrementAndGet() > maxSubscribers) {
+            subscriberTotal.decrementAndGet();
+            throw new VoteStreamLimitException("in total", maxSubscribers);
+        }
+        AtomicBoolean accepted = new AtomicBoolean();
+        clientSubscribers.compute(clientKey, (key, count) -> {
+            int current = count == null ? 0 : count;
+            if (current >= maxSubscribersPerClient) {
+                return count;
+            }
+            accepted.set(true);
+            return current + 1;
+        });
+        if (!accepted.get()) {
+            subscriberTotal.decrementAndGet();
+            throw new VoteStreamLimitException("per client", maxSubscribersPerClient);
+        }
+    }
+
+    private void releaseSlot(String clientKey) {
+        clientSubscribers.computeIfPresent(clientKey, (key, count) -> count > 1 ? count - 1 : null);
+        subscriberTotal.decrementAndGet();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+        if (senders != null) {
+            senders.shutdownNow();
+        }
+        subscribers.values().forEach(pollSubscribers -> pollSubscribers.forEach(subscriber -> subscriber.emitter.complete()));
+    }
+
+    // 한 구간 동안 합친 증분과 마지막으로 받은 전체 집계
+    private static final class PendingFrame {
+        private final Map<Long, Long> deltas = new HashMap<>();
+        private Map<Long, Long> totals;
+    }
+
+    // 직렬화된 증분 frame, 총 투표 수가 fromTotal에서 toTotal로 바뀐 구간
+    private record Frame(String json, long fromTotal, long toTotal, Map<Long, Long> totals) {
+    }
+
+    private final class Subscriber {
+        private final Long pollId;
+        private final String clientKey;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Frame> queue;
+        // 한 번에 한 sender만 이 구독자에게 씀, snapshot을 보내기 전까지는 구독 스레드가 쥐고 있음
+        private final AtomicBoolean draining = new AtomicBoolean(true);
+        // snapshot의 총 투표 수, 여기까지 반영된 frame은 보내지 않음
+        private volatile long baseline = Long.MAX_VALUE;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Subscriber(Long pollId, String clientKey, SseEmitter emitter, BlockingQueue<Frame> queue) {
+            this.pollId = pollId;
+            this.clientKey = clientKey;
+            this.emitter = emitter;
+            this.queue = queue;
+        }
+
+        private void offer(Frame frame) {
+            if (!queue.offer(frame)) {
+                log.debug("poll {} 구독자가 따라오지 못해 끊음 (대기 frame {}개)", pollId, queue.size());
+                unsubscribe(this);
+                emitter.complete();
+                return;
+            }
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (!queue.isEmpty() && draining.compareAndSet(false, true)) {
+                try {
+                    senders.execute(this::drain);
+                } catch (RuntimeException e) {
+                    // 종료 중
+                    draining.set(false);
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                Frame frame;
+                while ((frame = queue.poll()) != null) {
+                    send(frame);
+                }
+            } catch (Exception e) {
+                // 끊어진 구독자는 정리
+                unsubscribe(this);
+                queue.clear();
+                return;
+            } finally {
+                draining.set(false);
+            }
+            // 놓은 직후 들어온 frame이 있으면 다시 잡음
+            scheduleDrain();
+        }
+
+        private void send(Frame frame) throws IOException {
+            long snapshotTotal = baseline;
+            if (frame.fromTotal() >= snapshotTotal) {
+                emitter.send(SseEmitter.event().name("delta").data(frame.json(), MediaType.APPLICATION_JSON));
+            } else if (frame.toTotal() > snapshotTotal) {
+                // snapshot에 일부만 들어간 frame: 증분 대신 그 시점의 집계를 다시 보냄
+                emitter.send(SseEmitter.event().name("snapshot")
+                        .data(PollResultView.of(pollId, new TreeMap<>(frame.totals()), System.currentTimeMillis()),
+                                MediaType.APPLICATION_JSON));
+            } else {
+                return; // snapshot에 이미 들어간 증분
+            }
+            baseline = 0;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.everypoll.voteService.store;
+
+import java.util.Arrays;
+
+/**
+ * long -> long 오픈 어드레싱 해시맵 (선형 탐사, 삭제는 뒤쪽 항목을 당겨 채움).
+ * 박싱 없이 키/값 배열 두 개만 쓰므로 항목당 약 16~32바이트다. 키 0은 빈 칸 표시라 쓸 수 없다.
+ * 스레드 안전하지 않으므로 동시 접근은 호출하는 쪽에서 막아야 한다.
+ */
+public class LongLongHashMap {
+
+    private static final long EMPTY = 0L;
+    private static final float LOAD_FACTOR = 0.6f;
+
+    private long[] keys;
+    private long[] values;
+    private int mask;
+    private int size;
+    private int resizeAt;
+
+    public LongLongHashMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max((int) (expectedSize / LOAD_FACTOR), 8) - 1) << 1;
+        allocate(capacity);
+    }
+
+    public long get(long key, long defaultValue) {
+        long[] keys = this.keys;
+        long[] values = this.values;
+        int mask = keys.length - 1;
+        for (int slot = hash(key) & mask; ; slot = (slot + 1) & mask) {
+            long current = keys[slot];
+            if (current == key) {
+                return values[slot];
+            }
+            if (current == EMPTY) {
+                return defaultValue;
+            }
+        }
+    }
+
+    public void put(long key, long value) {
+        if (key == EMPTY) {
+            throw new IllegalArgumentException("키 0은 쓸 수 없음");
+        }
+        for (int slot = hash(key) & mask; ; slot = (slot + 1) & mask) {
+            long current = keys[slot];
+            if (current == key) {
+                values[slot] = value;
+                return;
+            }
+            if (current == EMPTY) {
+                keys[slot] = key;
+                values[slot] = value;
+                if (++size >= resizeAt) {
+                    rehash(keys.length << 1);
+                }
+                return;
+            }
+        }
+    }
+
+    public boolean remove(long key) {
+        for (int slot = hash(key) & mask; ; slot = (slot + 1) & mask) {
+            long current = keys[slot];
+            if (current == EMPTY) {
+                return false;
+            }
+            if (current == key) {
+                shiftBack(slot);
+                size--;
+                return true;
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // 키/값 배열이 차지하는 바이트
+    public long sizeInBytes() {
+        return (long) keys.length * Long.BYTES * 2;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, EMPTY);
+        size = 0;
+    }
+
+    // 지운 칸 뒤의 같은 탐사열 항목을 앞으로 당겨 빈 칸 없이 유지 (tombstone 없음)
+    private void shiftBack(int slot) {
+        int gap = slot;
+        for (int next = (gap + 1) & mask; keys[next] != EMPTY; next = (next + 1) & mask) {
+            int home = hash(keys[next]) & mask;
+            // next의 원래 자리가 (gap, next] 구간 밖이면 gap으로 옮겨도 탐사가 끊기지 않음
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                keys[gap] = keys[next];
+                values[gap] = values[next];
+                gap = next;
+            }
+        }
+        keys[gap] = EMPTY;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            long key = oldKeys[i];
+            if (key != EMPTY) {
+                int slot = hash(key) & mask;
+                while (keys[slot] != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = key;
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new long[capacity];
+        mask = capacity - 1;
+        resizeAt = (int) (capacity * LOAD_FACTOR);
+    }
+
+    // murmur3 fmix64, 연속된 id도 고르게 흩어지게 함
+    private static int hash(long key) {
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        key *= 0xc4ceb33fca624d53L;
+        key ^= key >>> 33;
+        return (int) key;
+    }
+}
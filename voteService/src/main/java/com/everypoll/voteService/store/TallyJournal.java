@@ -0,0 +1,269 @@
+package com.everypoll.voteService.store;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 메모리 집계 상태를 재시작 후에도 되살리기 위한 스냅샷 + 증분 저널.
+ * 증분은 메모리 맵 세그먼트에 추가만 하고, 주기적으로 닫힌 세그먼트를 이전 스냅샷에 접어 새 스냅샷을 만든다.
+ * 재시작 시에는 스냅샷 하나와 마지막 세그먼트 꼬리만 읽으므로 votes 테이블 크기와 무관하다.
+ */
+@Slf4j
+@Component
+public class TallyJournal {
+
+    private static final String SNAPSHOT_FILE = "tally.snapshot";
+    private static final String SEGMENT_PREFIX = "tally-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String NODE_ID_FILE = "node-id";
+
+    private final boolean enabled;
+    private final Path directory;
+    private final int segmentBytes;
+    private final long snapshotIntervalMs;
+    private final long syncIntervalMs;
+
+    private final Object rotateLock = new Object();
+    // 꽉 차서 넘겨진, 아직 스냅샷에 접히지 않은 세그먼트 (오래된 순)
+    private final Queue<TallySegment> sealed = new ConcurrentLinkedQueue<>();
+    private volatile TallySegment active;
+    private volatile String nodeId;
+    private ScheduledExecutorService executor;
+
+    public TallyJournal(@Value("${vote.journal.enabled:true}") boolean enabled,
+            @Value("${vote.journal.dir:./data/tally-journal}") String directory,
+            @Value("${vote.journal.segment-bytes:16777216}") int segmentBytes,
+            @Value("${vote.journal.snapshot-interval-ms:60000}") long snapshotIntervalMs,
+            @Value("${vote.journal.sync-interval-ms:1000}") long syncIntervalMs) {
+        this.enabled = enabled;
+        this.directory = Paths.get(directory);
+        this.segmentBytes = segmentBytes;
+        this.snapshotIntervalMs = snapshotIntervalMs;
+        this.syncIntervalMs = syncIntervalMs;
+    }
+
+    /**
+     * 스냅샷을 읽고 남은 세그먼트를 재생해 집계 상태를 돌려준 뒤 저널을 연다.
+     * 재생한 꼬리는 곧바로 새 스냅샷에 접으므로 다음 재시작도 스냅샷 하나만 읽으면 된다.
+     */
+    public synchronized TallyState recover() throws IOException {
+        TallyState state = new TallyState();
+        if (!enabled) {
+            return state;
+        }
+        if (active != null) {
+            throw new IllegalStateException("저널이 이미 열려 있음");
+        }
+
+        long startedAt = System.nanoTime();
+        Files.createDirectories(directory);
+        nodeId = readNodeId();
+        long covered = TallySnapshot.read(snapshotPath(), state);
+        long lastSequence = Math.max(covered, 0);
+        long replayed = 0;
+
+        List<Path> segments = segmentFiles();
+        for (Path segment : segments) {
+            long sequence = sequenceOf(segment);
+            if (sequence > covered) {
+                replayed += TallySegment.replay(segment, state);
+            }
+            lastSequence = Math.max(lastSequence, sequence);
+        }
+        if (!segments.isEmpty()) {
+            TallySnapshot.write(snapshotPath(), state, lastSequence);
+            for (Path segment : segments) {
+                Files.deleteIfExists(segment);
+            }
+        }
+
+        active = TallySegment.create(segmentPath(lastSequence + 1), lastSequence + 1, segmentBytes);
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "vote-tally-journal");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::checkpointQuietly, snapshotIntervalMs, snapshotIntervalMs, TimeUnit.MILLISECONDS);
+        executor.scheduleWithFixedDelay(this::syncQuietly, syncIntervalMs, syncIntervalMs, TimeUnit.MILLISECONDS);
+
+        log.info("집계 저널 복구: poll {}개, 선택지 {}개, 재생한 레코드 {}건, {}ms",
+                state.getPolls().size(), state.optionCount(), replayed,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        return state;
+    }
+
+    /**
+     * 이 저널(디스크)의 고유 id, 처음 열 때 만들어 디렉터리에 남긴다.
+     * vote_flush_log에서 이 노드가 마지막으로 커밋한 flush 순번을 찾는 키이며, 저널이 꺼져 있으면 null.
+     */
+    public String nodeId() {
+        return nodeId;
+    }
+
+    public void append(byte type, long pollId, long optionId, long value) {
+        if (!enabled) {
+            return;
+        }
+        TallySegment segment = active;
+        if (segment == null) {
+            throw new IllegalStateException("열려 있지 않은 저널");
+        }
+        while (!segment.append(type, pollId, optionId, value)) {
+            segment = rotate(segment);
+        }
+    }
+
+    /**
+     * 현재 세그먼트를 닫고 닫힌 세그먼트를 모두 스냅샷에 접는다.
+     * 메모리의 카운터는 읽지 않고 저널 레코드만 접으므로 증가 경로를 멈추지 않는다.
+     */
+    public void checkpoint() throws IOException {
+        TallySegment current = active;
+        if (current != null && !current.isEmpty()) {
+            rotate(current);
+        }
+        compact();
+    }
+
+    // 꽉 찬 세그먼트를 넘기고 새 세그먼트를 엶, 이미 다른 스레드가 넘겼다면 그 세그먼트를 돌려줌
+    private TallySegment rotate(TallySegment full) {
+        synchronized (rotateLock) {
+            if (active == full) {
+                long next = full.sequence() + 1;
+                try {
+                    active = TallySegment.create(segmentPath(next), next, segmentBytes);
+                } catch (IOException e) {
+                    throw new UncheckedIOException("집계 저널 세그먼트 생성 실패", e);
+                }
+                sealed.add(full);
+                if (executor != null && !executor.isShutdown()) {
+                    executor.execute(this::compactQuietly);
+                }
+            }
+            return active;
+        }
+    }
+
+    private synchronized void compact() throws IOException {
+        List<TallySegment> segments = new ArrayList<>(sealed);
+        if (segments.isEmpty()) {
+            return;
+        }
+
+        TallyState state = new TallyState();
+        TallySnapshot.read(snapshotPath(), state);
+        for (TallySegment segment : segments) {
+            segment.seal();
+            segment.replay(state);
+        }
+        TallySnapshot.write(snapshotPath(), state, segments.get(segments.size() - 1).sequence());
+
+        // 스냅샷이 교체된 뒤에만 세그먼트를 지움
+        for (TallySegment segment : segments) {
+            sealed.remove(segment);
+            segment.close();
+            Files.deleteIfExists(segment.path());
+        }
+        log.debug("집계 스냅샷 갱신: 세그먼트 {}개, 선택지 {}개", segments.size(), state.optionCount());
+    }
+
+    private void compactQuietly() {
+        try {
+            compact();
+        } catch (Exception e) {
+            // 접지 못한 세그먼트는 큐와 디스크에 남아 다음 주기에 다시 시도됨
+            log.error("집계 스냅샷 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    private void checkpointQuietly() {
+        try {
+            checkpoint();
+        } catch (Exception e) {
+            log.error("집계 스냅샷 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    // 프로세스가 죽어도 페이지 캐시에 남지만, OS가 죽는 경우에 대비해 주기적으로 디스크에 내림
+    private void syncQuietly() {
+        TallySegment current = active;
+        if (current != null) {
+            current.force();
+        }
+    }
+
+    // 종료 시 남은 저널을 모두 스냅샷에 접어 다음 시작은 스냅샷만 읽게 함
+    @PreDestroy
+    public void shutdown() throws IOException, InterruptedException {
+        if (executor == null) {
+            return;
+        }
+        executor.shutdown();
+        executor.awaitTermination(snapshotIntervalMs, TimeUnit.MILLISECONDS);
+        synchronized (rotateLock) {
+            TallySegment current = active;
+            active = null;
+            sealed.add(current);
+        }
+        compact();
+    }
+
+    // 프로세스가 죽은 것처럼 백그라운드 작업만 멈추고 스냅샷에 접지 않음 (테스트용)
+    void halt() throws InterruptedException {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor.awaitTermination(snapshotIntervalMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private String readNodeId() throws IOException {
+        Path path = directory.resolve(NODE_ID_FILE);
+        if (Files.exists(path)) {
+            return Files.readString(path).trim();
+        }
+        String created = UUID.randomUUID().toString();
+        Files.writeString(path, created);
+        return created;
+    }
+
+    private List<Path> segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> {
+                String name = path.getFileName().toString();
+                return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+            }).sorted(Comparator.comparingLong(TallyJournal::sequenceOf)).toList();
+        }
+    }
+
+    private Path snapshotPath() {
+        return directory.resolve(SNAPSHOT_FILE);
+    }
+
+    private Path segmentPath(long sequence) {
+        return directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, sequence, SEGMENT_SUFFIX));
+    }
+
+    private static long sequenceOf(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+}
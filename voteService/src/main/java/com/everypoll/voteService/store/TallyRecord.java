@@ -0,0 +1,23 @@
+package com.everypoll.voteService.store;
+
+// 저널 레코드 종류, 0은 아직 쓰이지 않은(커밋되지 않은) 칸
+public final class TallyRecord {
+    public static final byte INCREMENT = 1; // (poll, option) 증분이 메모리에 반영됨
+    public static final byte FLUSHED = 2;   // 증분이 vote_counts에 반영됨
+    public static final byte LOADED = 3;    // poll의 DB 기준값을 읽기 시작함 (뒤따르는 BASE가 기준값)
+    public static final byte BASE = 4;      // 로딩된 (poll, option)의 vote_counts 값
+    public static final byte EVICTED = 5;   // 다른 노드로 넘어가 메모리에서 지운 poll
+    public static final byte UNLOADED = 6;  // 다른 노드로 넘어갔지만 flush할 증분이 남은 poll (기준값은 다시 읽어야 함)
+    // flush 묶음 (value = flush 순번): BEGIN 뒤의 FLUSHED는 COMMIT이 올 때까지 확정되지 않음
+    public static final byte FLUSH_BEGIN = 7;
+    public static final byte FLUSH_COMMIT = 8;
+    public static final byte FLUSH_ABORT = 9;
+
+    private TallyRecord() {
+    }
+
+    @FunctionalInterface
+    public interface Visitor {
+        void visit(byte type, long pollId, long optionId, long value);
+    }
+}
@@ -0,0 +1,148 @@
+package com.everypoll.voteService.store;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 고정 크기(32바이트) 레코드를 추가만 하는 메모리 맵 저널 세그먼트.
+ * 레코드는 [type][pollId][optionId][value] 순서의 long 4개이고, type을 마지막에 release로 써서
+ * type이 0이 아닌 칸만 완성된 레코드로 본다. 칸 예약은 CAS 없이 getAndAdd 한 번이라 여러 스레드가 동시에 써도 된다.
+ */
+@Slf4j
+final class TallySegment implements Closeable {
+
+    static final int RECORD_SIZE = 32;
+
+    private static final VarHandle LONGS = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+    // seal 이후의 예약은 모두 용량을 넘기도록 밀어 두는 위치
+    private static final long SEALED = Long.MAX_VALUE / 2;
+    // 예약한 칸이 이 시간 넘게 비어 있으면 경고 (기다림은 멈추지 않음)
+    private static final long COMMIT_WARN_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final long sequence;
+    private final Path path;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int capacity;
+    private final AtomicLong position = new AtomicLong();
+    private volatile int sealedEnd = -1;
+
+    private TallySegment(long sequence, Path path, FileChannel channel, MappedByteBuffer buffer) {
+        this.sequence = sequence;
+        this.path = path;
+        this.channel = channel;
+        this.buffer = buffer;
+        this.capacity = buffer.capacity() - buffer.capacity() % RECORD_SIZE;
+    }
+
+    static TallySegment create(Path path, long sequence, int capacityBytes) throws IOException {
+        FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        return new TallySegment(sequence, path, channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, capacityBytes));
+    }
+
+    // 재시작 시 남아 있는 세그먼트 파일을 읽어 들임, 예약만 되고 쓰이지 않은 칸(type 0)은 건너뜀
+    static int replay(Path path, TallyRecord.Visitor visitor) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()).order(ByteOrder.nativeOrder());
+            return visit(buffer, buffer.capacity() - buffer.capacity() % RECORD_SIZE, visitor);
+        }
+    }
+
+    long sequence() {
+        return sequence;
+    }
+
+    Path path() {
+        return path;
+    }
+
+    boolean isEmpty() {
+        return position.get() == 0;
+    }
+
+    // 남은 칸이 없으면 false, 호출한 쪽이 새 세그먼트로 넘겨서 다시 씀
+    boolean append(byte type, long pollId, long optionId, long value) {
+        long offset = position.getAndAdd(RECORD_SIZE);
+        if (offset + RECORD_SIZE > capacity) {
+            return false;
+        }
+        int index = (int) offset;
+        LONGS.set(buffer, index + 8, pollId);
+        LONGS.set(buffer, index + 16, optionId);
+        LONGS.set(buffer, index + 24, value);
+        LONGS.setRelease(buffer, index, (long) type);
+        return true;
+    }
+
+    /**
+     * 더 이상의 예약을 막고, 이미 예약된 칸이 모두 채워질 때까지 기다린다.
+     * 칸을 예약한 스레드는 바로 다음 줄에서 값을 쓰므로 시간 제한 없이 기다리며 (건너뛰면 증분을 잃음), 오래 걸리면 경고만 남긴다.
+     */
+    void seal() {
+        if (sealedEnd >= 0) {
+            return;
+        }
+        long end = Math.min(position.getAndSet(SEALED), capacity);
+        for (int offset = 0; offset < end; offset += RECORD_SIZE) {
+            long startedAt = System.nanoTime();
+            boolean warned = false;
+            while ((long) LONGS.getAcquire(buffer, offset) == 0) {
+                if (!warned && System.nanoTime() - startedAt > COMMIT_WARN_NANOS) {
+                    log.warn("집계 저널 {}의 {}번째 칸이 {}ms 넘게 쓰이지 않아 계속 기다립니다",
+                            path.getFileName(), offset / RECORD_SIZE, TimeUnit.NANOSECONDS.toMillis(COMMIT_WARN_NANOS));
+                    warned = true;
+                }
+                if (warned) {
+                    LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+                } else {
+                    Thread.onSpinWait();
+                }
+            }
+        }
+        sealedEnd = (int) end;
+    }
+
+    // seal된 세그먼트의 레코드를 순서대로 방문
+    int replay(TallyRecord.Visitor visitor) {
+        if (sealedEnd < 0) {
+            throw new IllegalStateException("seal되지 않은 세그먼트: " + path);
+        }
+        return visit(buffer.duplicate().order(ByteOrder.nativeOrder()), sealedEnd, visitor);
+    }
+
+    void force() {
+        buffer.force();
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private static int visit(ByteBuffer buffer, int end, TallyRecord.Visitor visitor) {
+        int records = 0;
+        for (int offset = 0; offset < end; offset += RECORD_SIZE) {
+            byte type = (byte) buffer.getLong(offset);
+            if (type == 0) {
+                continue;
+            }
+            visitor.visit(type, buffer.getLong(offset + 8), buffer.getLong(offset + 16), buffer.getLong(offset + 24));
+            records++;
+        }
+        return records;
+    }
+}
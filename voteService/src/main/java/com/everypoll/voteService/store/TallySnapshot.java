@@ -0,0 +1,99 @@
+package com.everypoll.voteService.store;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 집계 상태 전체를 담는 바이너리 스냅샷 파일.
+ * [magic][version][coveredSequence][pollCount] 뒤에 poll마다 [pollId][loaded][optionCount]와
+ * 선택지마다 [optionId][persisted][pending]이 이어지고, 끝에 [flushSequence][currentFlush][openFlushCount]와
+ * 묶음마다 [sequence][deltaCount][pollId, optionId, delta...]가 붙는다.
+ */
+final class TallySnapshot {
+
+    private static final int MAGIC = 0x54414C59; // "TALY"
+    private static final int VERSION = 2;
+
+    private TallySnapshot() {
+    }
+
+    // 스냅샷이 없으면 -1 (모든 세그먼트를 재생해야 함)
+    static long read(Path path, TallyState state) throws IOException {
+        if (!Files.exists(path)) {
+            return -1;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path), 1 << 16))) {
+            int magic = in.readInt();
+            int version = in.readInt();
+            if (magic != MAGIC || version != VERSION) {
+                throw new IOException("잘못된 집계 스냅샷 파일: " + path);
+            }
+            long coveredSequence = in.readLong();
+            int pollCount = in.readInt();
+            for (int i = 0; i < pollCount; i++) {
+                TallyState.PollState poll = state.poll(in.readLong());
+                poll.setLoaded(in.readBoolean());
+                int optionCount = in.readInt();
+                for (int j = 0; j < optionCount; j++) {
+                    poll.option(in.readLong()).set(in.readLong(), in.readLong());
+                }
+            }
+            state.setFlushSequence(in.readLong());
+            long currentFlush = in.readLong();
+            int flushCount = in.readInt();
+            for (int i = 0; i < flushCount; i++) {
+                long sequence = in.readLong();
+                int deltaCount = in.readInt();
+                List<long[]> deltas = new ArrayList<>(deltaCount);
+                for (int j = 0; j < deltaCount; j++) {
+                    deltas.add(new long[] {in.readLong(), in.readLong(), in.readLong()});
+                }
+                state.openFlush(sequence, deltas, sequence == currentFlush);
+            }
+            return coveredSequence;
+        }
+    }
+
+    // 임시 파일에 쓴 뒤 원자적으로 교체하므로 중간에 죽어도 이전 스냅샷이 남음
+    static void write(Path path, TallyState state, long coveredSequence) throws IOException {
+        Path tmp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp), 1 << 16))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(coveredSequence);
+            out.writeInt(state.getPolls().size());
+            for (Map.Entry<Long, TallyState.PollState> poll : state.getPolls().entrySet()) {
+                out.writeLong(poll.getKey());
+                out.writeBoolean(poll.getValue().isLoaded());
+                out.writeInt(poll.getValue().getOptions().size());
+                for (Map.Entry<Long, TallyState.OptionState> option : poll.getValue().getOptions().entrySet()) {
+                    out.writeLong(option.getKey());
+                    out.writeLong(option.getValue().getPersisted());
+                    out.writeLong(option.getValue().getPending());
+                }
+            }
+            out.writeLong(state.getFlushSequence());
+            out.writeLong(state.currentFlushSequence());
+            out.writeInt(state.getOpenFlushes().size());
+            for (Map.Entry<Long, List<long[]>> flush : state.getOpenFlushes().entrySet()) {
+                out.writeLong(flush.getKey());
+                out.writeInt(flush.getValue().size());
+                for (long[] delta : flush.getValue()) {
+                    out.writeLong(delta[0]);
+                    out.writeLong(delta[1]);
+                    out.writeLong(delta[2]);
+                }
+            }
+        }
+        Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
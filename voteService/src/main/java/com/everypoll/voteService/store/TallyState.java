@@ -0,0 +1,164 @@
+package com.everypoll.voteService.store;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 스냅샷 + 저널을 접어서(fold) 만든 집계 상태.
+ * pending은 메모리에만 있고 아직 vote_counts에 쓰이지 않은 증분, persisted는 DB에 있는 값이다.
+ * COMMIT/ABORT 없이 끝난 flush 묶음은 openFlushes에 남고, 복구하는 쪽이 DB의 flush 순번을 보고 확정한다.
+ */
+public class TallyState implements TallyRecord.Visitor {
+
+    private final Map<Long, PollState> polls = new HashMap<>();
+    // flush 순번 -> 확정되지 않은 (pollId, optionId, delta) 목록
+    private final Map<Long, List<long[]>> openFlushes = new LinkedHashMap<>();
+    private List<long[]> currentFlush;
+    private long flushSequence;
+
+    @Override
+    public void visit(byte type, long pollId, long optionId, long value) {
+        switch (type) {
+            case TallyRecord.FLUSH_BEGIN -> {
+                currentFlush = new ArrayList<>();
+                openFlushes.put(value, currentFlush);
+                flushSequence = Math.max(flushSequence, value);
+                return;
+            }
+            case TallyRecord.FLUSH_COMMIT, TallyRecord.FLUSH_ABORT -> {
+                resolveFlush(value, type == TallyRecord.FLUSH_COMMIT);
+                return;
+            }
+            case TallyRecord.FLUSHED -> {
+                // FLUSHED는 항상 FLUSH_BEGIN 뒤에 기록됨
+                if (currentFlush == null) {
+                    throw new IllegalStateException("flush 묶음 밖의 FLUSHED 레코드: poll " + pollId + ", option " + optionId);
+                }
+                currentFlush.add(new long[] {pollId, optionId, value});
+                return;
+            }
+            default -> {
+            }
+        }
+        if (type == TallyRecord.EVICTED) {
+            polls.remove(pollId);
+            return;
+        }
+        PollState poll = polls.computeIfAbsent(pollId, id -> new PollState());
+        switch (type) {
+            case TallyRecord.INCREMENT -> poll.option(optionId).pending += value;
+            case TallyRecord.LOADED -> {
+                poll.loaded = true;
+                poll.options.values().forEach(option -> option.persisted = 0);
+            }
+            case TallyRecord.BASE -> poll.option(optionId).persisted = value;
+            case TallyRecord.UNLOADED -> poll.loaded = false;
+            default -> throw new IllegalStateException("알 수 없는 저널 레코드: " + type);
+        }
+    }
+
+    public Map<Long, PollState> getPolls() {
+        return polls;
+    }
+
+    // 확정되지 않은 flush 묶음 (순번 오름차순)
+    public Map<Long, List<long[]>> getOpenFlushes() {
+        return openFlushes;
+    }
+
+    // 지금까지 본 가장 큰 flush 순번
+    public long getFlushSequence() {
+        return flushSequence;
+    }
+
+    // 커밋된 묶음은 증분을 DB 쪽으로 옮기고, 아니면 버림 (증분은 pending에 남아 다시 flush됨)
+    public void resolveFlush(long sequence, boolean committed) {
+        List<long[]> flush = openFlushes.remove(sequence);
+        if (flush == null) {
+            return;
+        }
+        if (flush == currentFlush) {
+            currentFlush = null;
+        }
+        if (committed) {
+            flush.forEach(delta -> applyFlushed(delta[0], delta[1], delta[2]));
+        }
+    }
+
+    // 지금 FLUSHED를 받고 있는 묶음의 순번, 없으면 0
+    long currentFlushSequence() {
+        for (Map.Entry<Long, List<long[]>> flush : openFlushes.entrySet()) {
+            if (flush.getValue() == currentFlush) {
+                return flush.getKey();
+            }
+        }
+        return 0;
+    }
+
+    void openFlush(long sequence, List<long[]> deltas, boolean current) {
+        openFlushes.put(sequence, deltas);
+        if (current) {
+            currentFlush = deltas;
+        }
+    }
+
+    void setFlushSequence(long flushSequence) {
+        this.flushSequence = flushSequence;
+    }
+
+    private void applyFlushed(long pollId, long optionId, long delta) {
+        OptionState option = poll(pollId).option(optionId);
+        option.pending -= delta;
+        option.persisted += delta;
+    }
+
+    public int optionCount() {
+        return polls.values().stream().mapToInt(poll -> poll.options.size()).sum();
+    }
+
+    public static final class PollState {
+        private final Map<Long, OptionState> options = new HashMap<>();
+        private boolean loaded;
+
+        public boolean isLoaded() {
+            return loaded;
+        }
+
+        public Map<Long, OptionState> getOptions() {
+            return options;
+        }
+
+        void setLoaded(boolean loaded) {
+            this.loaded = loaded;
+        }
+
+        OptionState option(long optionId) {
+            return options.computeIfAbsent(optionId, id -> new OptionState());
+        }
+    }
+
+    public static final class OptionState {
+        private long persisted;
+        private long pending;
+
+        public long getPersisted() {
+            return persisted;
+        }
+
+        public long getPending() {
+            return pending;
+        }
+
+        void set(long persisted, long pending) {
+            this.persisted = persisted;
+            this.pending = pending;
+        }
+    }
+
+    PollState poll(long pollId) {
+        return polls.computeIfAbsent(pollId, id -> new PollState());
+    }
+}
@@ -4,7 +4,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
 @SpringBootTest
-class VoteServiceApplicationTests {
+class VoteServiceApplicationTests extends AbstractIntegrationTest {
 
 	@Test
 	void contextLoads() {
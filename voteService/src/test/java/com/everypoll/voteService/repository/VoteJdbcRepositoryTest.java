@@ -0,0 +1,52 @@
+package com.everypoll.voteService.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.everypoll.voteService.service.VoteCountDelta;
+
+// 인기 poll의 slot 행 쓰기/읽기/합치기가 선택지별 합계를 바꾸지 않는지 확인 (H2 MySQL 모드)
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(VoteJdbcRepository.class)
+class VoteJdbcRepositoryTest {
+
+    @Autowired
+    private VoteJdbcRepository voteJdbcRepository;
+
+    @Autowired
+    private VoteCountRepository voteCountRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void slotRowsAreSummedAndFolded() {
+        voteJdbcRepository.upsertVoteCounts(List.of(new VoteCountDelta(1L, 10L, 5), new VoteCountDelta(1L, 11L, 2)));
+        voteJdbcRepository.upsertVoteCounts(List.of(new VoteCountDelta(1L, 10L, 3), new VoteCountDelta(1L, 11L, 1)), pollId -> 3);
+        voteJdbcRepository.upsertVoteCounts(List.of(new VoteCountDelta(1L, 10L, 4)), pollId -> 5);
+        voteJdbcRepository.upsertVoteCounts(List.of(new VoteCountDelta(1L, 10L, 1)), pollId -> 5);
+        voteJdbcRepository.upsertVoteCounts(List.of(new VoteCountDelta(2L, 20L, 7)));
+
+        assertThat(voteJdbcRepository.lockVoteCounts(1L)).isEqualTo(Map.of(10L, 13L, 11L, 3L));
+        assertThat(voteJdbcRepository.findShardedPollIds()).containsExactly(1L);
+
+        assertThat(voteJdbcRepository.foldSlots(1L)).isEqualTo(3);
+
+        assertThat(voteJdbcRepository.lockVoteCounts(1L)).isEqualTo(Map.of(10L, 13L, 11L, 3L));
+        assertThat(voteCountRepository.findByPollId(1L)).hasSize(2).allMatch(row -> row.getSlot() == 0);
+        assertThat(voteJdbcRepository.findShardedPollIds()).isEmpty();
+        // slot 행이 없는 poll은 그대로
+        assertThat(voteJdbcRepository.foldSlots(2L)).isZero();
+        assertThat(jdbcTemplate.queryForObject("select vote_count from vote_counts where poll_id = 2", Long.class)).isEqualTo(7L);
+    }
+}
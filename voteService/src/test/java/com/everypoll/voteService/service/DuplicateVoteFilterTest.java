@@ -0,0 +1,59 @@
+package com.everypoll.voteService.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.function.LongConsumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.everypoll.voteService.repository.VoteJdbcRepository;
+
+// votes 조회는 mock으로 두고 비트맵 생성/반영/내림만 확인
+class DuplicateVoteFilterTest {
+
+    private VoteJdbcRepository voteJdbcRepository;
+    private DuplicateVoteFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        voteJdbcRepository = mock(VoteJdbcRepository.class);
+        // poll 1에는 사용자 7이 이미 투표함
+        doAnswer(invocation -> {
+            invocation.<LongConsumer>getArgument(1).accept(7L);
+            return null;
+        }).when(voteJdbcRepository).findVoterIds(eq(1L), any());
+        filter = new DuplicateVoteFilter(voteJdbcRepository);
+    }
+
+    @Test
+    void loadsOnceAndTracksCommittedVotes() {
+        assertThat(filter.hasVoted(1L, 7L)).isTrue();
+        assertThat(filter.hasVoted(1L, 8L)).isFalse();
+
+        filter.markVoted(1L, 8L);
+
+        assertThat(filter.hasVoted(1L, 8L)).isTrue();
+        verify(voteJdbcRepository, times(1)).findVoterIds(eq(1L), any());
+    }
+
+    @Test
+    void evictsIdleBitmapsAndReloadsOnNextCheck() {
+        filter.hasVoted(1L, 7L);
+        filter.hasVoted(2L, 7L);
+
+        assertThat(filter.evictIdle(60_000)).isZero();
+        // 음수 idle이면 방금 쓴 비트맵도 한가한 것으로 봄
+        assertThat(filter.evictIdle(-60_000)).isEqualTo(2);
+        assertThat(filter.stats().getPollCount()).isZero();
+
+        assertThat(filter.hasVoted(1L, 7L)).isTrue();
+        verify(voteJdbcRepository, times(2)).findVoterIds(eq(1L), any());
+    }
+}
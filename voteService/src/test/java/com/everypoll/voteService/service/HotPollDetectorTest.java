@@ -0,0 +1,67 @@
+package com.everypoll.voteService.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.everypoll.voteService.dto.HotPollResponse;
+
+// 판정 스레드 없이 evaluate를 직접 불러 구간을 넘김
+class HotPollDetectorTest {
+
+    private HotPollDetector detector;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        detector = new HotPollDetector();
+        ReflectionTestUtils.setField(detector, "hotThreshold", 100.0);
+        ReflectionTestUtils.setField(detector, "coolThreshold", 10.0);
+        ReflectionTestUtils.setField(detector, "coolWindows", 2);
+        ReflectionTestUtils.setField(detector, "slots", 4);
+        ReflectionTestUtils.setField(detector, "windowStartedAt", System.currentTimeMillis() - 1000);
+    }
+
+    @Test
+    void fastPollIsSpreadOverSlots() {
+        detector.record(1L, 500);
+        detector.record(2L, 5);
+        detector.evaluate();
+
+        assertThat(detector.getHotPolls()).extracting(HotPollResponse::getPollId).containsExactly(1L);
+        for (int i = 0; i < 100; i++) {
+            assertThat(detector.slotFor(1L)).isBetween(0, 3);
+        }
+        assertThat(detector.slotFor(2L)).isZero();
+    }
+
+    @Test
+    void cooledPollIsHandedToFolder() {
+        detector.record(1L, 500);
+        detector.evaluate();
+
+        // 식은 구간이 coolWindows번 이어져야 해제
+        detector.evaluate();
+        assertThat(detector.drainCooled()).isEmpty();
+        detector.evaluate();
+
+        assertThat(detector.getHotPolls()).isEmpty();
+        assertThat(detector.slotFor(1L)).isZero();
+        assertThat(detector.drainCooled()).containsExactly(1L);
+        assertThat(detector.drainCooled()).isEmpty();
+    }
+
+    // 다시 인기 poll이 된 poll은 지금 합치지 않음 (식을 때 합침)
+    @Test
+    void scheduleFoldSkipsHotPolls() {
+        detector.record(1L, 500);
+        detector.evaluate();
+
+        detector.scheduleFold(List.of(1L, 2L));
+
+        assertThat(detector.drainCooled()).containsExactly(2L);
+    }
+}
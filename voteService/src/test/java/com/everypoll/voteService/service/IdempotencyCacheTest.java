@@ -0,0 +1,126 @@
+package com.everypoll.voteService.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.everypoll.voteService.dto.VoteRequest;
+import com.everypoll.voteService.dto.VoteResponse;
+import com.everypoll.voteService.exception.IdempotencyKeyReusedException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class IdempotencyCacheTest {
+
+    private final IdempotencyCache cache = new IdempotencyCache(1000, 60_000, 3000);
+    private final AtomicInteger calls = new AtomicInteger();
+
+    @Test
+    void replaysFirstResponseForSameKey() {
+        VoteResponse first = cache.execute(1L, "key", request(10L, 100L), () -> respond(10L, 100L, 1L));
+        VoteResponse second = cache.execute(1L, "key", request(10L, 100L), () -> respond(10L, 100L, 1L));
+
+        assertThat(second).isSameAs(first);
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void rejectsKeyReusedForDifferentVote() {
+        cache.execute(1L, "key", request(10L, 100L), () -> respond(10L, 100L, 1L));
+
+        assertThatThrownBy(() -> cache.execute(1L, "key", request(10L, 101L), () -> respond(10L, 101L, 1L)))
+                .isInstanceOf(IdempotencyKeyReusedException.class);
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void keysAreScopedPerUser() {
+        cache.execute(1L, "key", request(10L, 100L), () -> respond(10L, 100L, 1L));
+        // 다른 사용자는 같은 키로 다른 선택지를 골라도 충돌하지 않음
+        VoteResponse other = cache.execute(2L, "key", request(10L, 101L), () -> respond(10L, 101L, 2L));
+
+        assertThat(other.getUserId()).isEqualTo(2L);
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    void concurrentRetryWaitsForInFlightRequest() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<VoteResponse> first = CompletableFuture.supplyAsync(() -> cache.execute(1L, "key", request(10L, 100L), () -> {
+            started.countDown();
+            await(release);
+            return respond(10L, 100L, 1L);
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<VoteResponse> retry = CompletableFuture.supplyAsync(
+                () -> cache.execute(1L, "key", request(10L, 100L), () -> respond(10L, 100L, 1L)));
+        awaitCacheHit();
+        release.countDown();
+
+        assertThat(retry.get(5, TimeUnit.SECONDS)).isSameAs(first.get(5, TimeUnit.SECONDS));
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void failedRequestPropagatesToWaitersAndFreesKey() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<VoteResponse> first = CompletableFuture.supplyAsync(() -> cache.execute(1L, "key", request(10L, 100L), () -> {
+            started.countDown();
+            await(release);
+            throw new IllegalStateException("broker down");
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<VoteResponse> waiter = CompletableFuture.supplyAsync(
+                () -> cache.execute(1L, "key", request(10L, 100L), () -> respond(10L, 100L, 1L)));
+        awaitCacheHit();
+        release.countDown();
+
+        // 기다리던 요청도 처음 요청과 같은 예외를 받음
+        assertThatThrownBy(() -> waiter.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> first.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalStateException.class);
+
+        // 실패한 키는 남지 않으므로 다시 보내면 새로 처리함
+        VoteResponse retried = cache.execute(1L, "key", request(10L, 100L), () -> respond(10L, 100L, 1L));
+        assertThat(retried.getOptionId()).isEqualTo(100L);
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    private VoteResponse respond(Long pollId, Long optionId, Long userId) {
+        calls.incrementAndGet();
+        return VoteResponse.builder()
+                .pollId(pollId)
+                .optionId(optionId)
+                .userId(userId)
+                .build();
+    }
+
+    private static VoteRequest request(Long pollId, Long optionId) {
+        return new ObjectMapper().convertValue(Map.of("pollId", pollId, "optionId", optionId), VoteRequest.class);
+    }
+
+    // 두 번째 요청이 처리 중인 항목을 찾았을 때(캐시 hit)까지 기다려서, 처음 요청이 끝난 뒤에 도착하지 않게 함
+    private void awaitCacheHit() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (cache.stats().getHitCount() == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(1);
+        }
+        assertThat(cache.stats().getHitCount()).isEqualTo(1);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
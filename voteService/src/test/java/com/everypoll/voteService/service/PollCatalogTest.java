@@ -0,0 +1,99 @@
+package com.everypoll.voteService.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+
+import com.everypoll.common.dto.PollSnapshotEvent;
+
+class PollCatalogTest {
+
+    private final PollCatalog catalog = new PollCatalog();
+
+    @Test
+    void appliesSnapshot() {
+        catalog.apply(1L, snapshot(1L, "alice", 10L, 11L));
+
+        assertThat(catalog.containsPoll(1L)).isTrue();
+        assertThat(catalog.ownerOf(1L)).isEqualTo("alice");
+        assertThat(catalog.contains(1L, 10L)).isTrue();
+        assertThat(catalog.contains(1L, 11L)).isTrue();
+        assertThat(catalog.contains(1L, 12L)).isFalse();
+        assertThat(catalog.contains(2L, 10L)).isFalse();
+        assertThat(catalog.pollOf(99L)).isZero();
+    }
+
+    // 새 스냅샷에서 빠진 선택지는 더 이상 이 poll의 것으로 보지 않음
+    @Test
+    void newSnapshotReplacesOptions() {
+        catalog.apply(1L, snapshot(1L, "alice", 10L, 11L));
+        catalog.apply(1L, snapshot(1L, "alice", 11L, 12L));
+
+        assertThat(catalog.contains(1L, 10L)).isFalse();
+        assertThat(catalog.contains(1L, 11L)).isTrue();
+        assertThat(catalog.contains(1L, 12L)).isTrue();
+    }
+
+    @Test
+    void tombstoneRemovesPoll() {
+        catalog.apply(1L, snapshot(1L, "alice", 10L));
+        catalog.apply(2L, snapshot(2L, "bob", 20L));
+        catalog.apply(1L, null);
+
+        assertThat(catalog.containsPoll(1L)).isFalse();
+        assertThat(catalog.ownerOf(1L)).isNull();
+        assertThat(catalog.pollOf(10L)).isZero();
+        assertThat(catalog.contains(2L, 20L)).isTrue();
+    }
+
+    @Test
+    void readyOnlyAfterMarked() {
+        assertThat(catalog.isReady()).isFalse();
+        catalog.markReady();
+        assertThat(catalog.isReady()).isTrue();
+    }
+
+    // 리스너가 쓰는 (배열을 키우는) 동안에도 이미 들어간 선택지는 항상 보여야 함
+    @Test
+    void readsStayConsistentWhileWriterGrowsMap() throws Exception {
+        catalog.apply(1L, snapshot(1L, "alice", 1L));
+        AtomicBoolean done = new AtomicBoolean();
+        ExecutorService reader = Executors.newSingleThreadExecutor();
+        try {
+            Future<Integer> misses = reader.submit(() -> {
+                int count = 0;
+                while (!done.get()) {
+                    if (catalog.pollOf(1L) != 1L) {
+                        count++;
+                    }
+                }
+                return count;
+            });
+
+            for (long pollId = 2; pollId <= 200_000; pollId++) {
+                catalog.apply(pollId, snapshot(pollId, "bob", pollId));
+            }
+            done.set(true);
+
+            assertThat(misses.get(10, TimeUnit.SECONDS)).isZero();
+            assertThat(catalog.pollOf(200_000L)).isEqualTo(200_000L);
+        } finally {
+            reader.shutdownNow();
+        }
+    }
+
+    private static PollSnapshotEvent snapshot(Long pollId, String createdBy, Long... optionIds) {
+        return PollSnapshotEvent.builder()
+                .pollId(pollId)
+                .createdBy(createdBy)
+                .optionIds(List.of(optionIds))
+                .build();
+    }
+}
@@ -0,0 +1,96 @@
+package com.everypoll.voteService.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.producer.internals.BuiltInPartitioner;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.everypoll.voteService.config.KafkaTopicConfig;
+
+// 담당 여부는 설정값이 아니라 consumer 메타데이터의 파티션 수로 계산해야 함
+class PollOwnershipTest {
+
+    private VoteCountFlusher voteCountFlusher;
+    private VoteCounter voteCounter;
+    private PollOwnership pollOwnership;
+
+    @BeforeEach
+    void setUp() {
+        voteCountFlusher = mock(VoteCountFlusher.class);
+        voteCounter = mock(VoteCounter.class);
+        pollOwnership = new PollOwnership(voteCountFlusher, voteCounter,
+                mock(PollResultViewCache.class), mock(DuplicateVoteFilter.class));
+        ReflectionTestUtils.setField(pollOwnership, "configuredPartitions", 3);
+    }
+
+    @Test
+    void ownsNothingBeforeAssignment() {
+        assertThat(pollOwnership.consumes(1L)).isFalse();
+    }
+
+    // 토픽이 설정보다 많은 파티션으로 만들어져 있어도 프로듀서와 같은 파티션을 고름
+    @Test
+    void usesActualTopicPartitionCount() {
+        pollOwnership.onPartitionsAssigned(consumerWithPartitions(6), List.of(partition(4)));
+
+        for (long pollId = 1; pollId <= 1_000; pollId++) {
+            byte[] key = String.valueOf(pollId).getBytes(StandardCharsets.UTF_8);
+            boolean expected = BuiltInPartitioner.partitionForKey(key, 6) == 4;
+            assertThat(pollOwnership.consumes(pollId)).as("poll %d", pollId).isEqualTo(expected);
+        }
+    }
+
+    // 파티션이 늘면 이전 수로 맡던 poll을 flush하고 메모리에서 내린 뒤 새 수로 계산
+    @Test
+    void handsOverPollsWhenPartitionCountChanges() {
+        when(voteCounter.pollIds()).thenReturn(new LinkedHashSet<>(List.of(1L, 2L, 3L)));
+        pollOwnership.onPartitionsAssigned(consumerWithPartitions(3), List.of(partition(0), partition(1), partition(2)));
+        verify(voteCountFlusher, never()).flush();
+
+        pollOwnership.onPartitionsAssigned(consumerWithPartitions(6), List.of(partition(5)));
+
+        verify(voteCountFlusher).flush();
+        verify(voteCounter).evict(List.of(1L, 2L, 3L));
+        for (long pollId = 1; pollId <= 100; pollId++) {
+            assertThat(pollOwnership.consumes(pollId)).isEqualTo(PollOwnership.partitionFor(pollId, 6) == 5);
+        }
+    }
+
+    @Test
+    void ignoresOtherTopics() {
+        Consumer<?, ?> consumer = consumerWithPartitions(3);
+        pollOwnership.onPartitionsAssigned(consumer, List.of(new TopicPartition("other-topic", 0)));
+
+        verify(consumer, never()).partitionsFor(KafkaTopicConfig.VOTE_CAST_TOPIC);
+        verify(voteCounter, never()).evict(anyCollection());
+        assertThat(pollOwnership.consumes(1L)).isFalse();
+    }
+
+    private static Consumer<?, ?> consumerWithPartitions(int count) {
+        Consumer<?, ?> consumer = mock(Consumer.class);
+        List<PartitionInfo> partitions = IntStream.range(0, count)
+                .mapToObj(partition -> new PartitionInfo(KafkaTopicConfig.VOTE_CAST_TOPIC, partition, null, null, null))
+                .toList();
+        when(consumer.partitionsFor(KafkaTopicConfig.VOTE_CAST_TOPIC)).thenReturn(partitions);
+        return consumer;
+    }
+
+    private static TopicPartition partition(int partition) {
+        return new TopicPartition(KafkaTopicConfig.VOTE_CAST_TOPIC, partition);
+    }
+}
@@ -0,0 +1,143 @@
+package com.everypoll.voteService.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.everypoll.voteService.model.VoteCount;
+import com.everypoll.voteService.repository.VoteCountRepository;
+import com.everypoll.voteService.repository.VoteJdbcRepository;
+import com.everypoll.voteService.store.TallyJournal;
+
+// vote_counts는 mock으로, 저널은 끈 채로 카운터의 조회/flush/내림만 확인
+class VoteCounterTest {
+
+    private VoteCountRepository voteCountRepository;
+    private VoteCounter voteCounter;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        voteCountRepository = mock(VoteCountRepository.class);
+        when(voteCountRepository.findByPollId(anyLong())).thenReturn(List.of());
+        when(voteCountRepository.findByPollIdIn(anyCollection())).thenReturn(List.of());
+        voteCounter = new VoteCounter(voteCountRepository, mock(VoteJdbcRepository.class), new TallyJournal(false, "unused", 0, 0, 0));
+        voteCounter.restore();
+    }
+
+    @Test
+    void readsDoNotCreateTallies() {
+        // 다른 stub 안에서 mock을 만들면 stubbing이 꼬이므로 행을 먼저 만듦
+        List<VoteCount> rows = List.of(row(1L, 10L, 5));
+        when(voteCountRepository.findByPollId(1L)).thenReturn(rows);
+        when(voteCountRepository.findByPollIdIn(anyCollection())).thenReturn(rows);
+
+        assertThat(voteCounter.getCounts(1L)).isEqualTo(Map.of(10L, 5L));
+        assertThat(voteCounter.getCounts(List.of(1L, 999L)))
+                .containsEntry(1L, Map.of(10L, 5L))
+                .containsEntry(999L, Map.of());
+        assertThat(voteCounter.pollIds()).isEmpty();
+    }
+
+    @Test
+    void countsAddPendingDeltasToDatabaseBase() {
+        List<VoteCount> rows = List.of(row(1L, 10L, 5));
+        when(voteCountRepository.findByPollId(1L)).thenReturn(rows);
+        voteCounter.add(1L, 10L, 2);
+        voteCounter.increment(1L, 11L);
+
+        assertThat(voteCounter.getCounts(1L)).isEqualTo(Map.of(10L, 7L, 11L, 1L));
+
+        List<VoteCountDelta> written = new ArrayList<>();
+        assertThat(voteCounter.flush((sequence, deltas) -> written.addAll(deltas))).isEqualTo(2);
+        assertThat(written).extracting(VoteCountDelta::getDelta).containsExactlyInAnyOrder(2L, 1L);
+        assertThat(voteCounter.unflushedCount()).isZero();
+        // flush 후에도 같은 값 (DB 기준값과 flush된 증분을 두 번 세지 않음)
+        assertThat(voteCounter.getCounts(1L)).isEqualTo(Map.of(10L, 7L, 11L, 1L));
+    }
+
+    // int 범위를 넘는 집계도 음수로 넘치지 않음
+    @Test
+    void countsBeyondIntRange() {
+        List<VoteCount> rows = List.of(row(1L, 10L, 3_000_000_000L));
+        when(voteCountRepository.findByPollId(1L)).thenReturn(rows);
+        voteCounter.increment(1L, 10L);
+
+        assertThat(voteCounter.getCounts(1L)).isEqualTo(Map.of(10L, 3_000_000_001L));
+    }
+
+    // 인기 poll은 선택지당 slot 행이 여러 개, 기준값은 모두 더한 값
+    @Test
+    void sumsSlotRowsPerOption() {
+        List<VoteCount> rows = List.of(row(1L, 10L, 5), row(1L, 10L, 3), row(1L, 11L, 2));
+        when(voteCountRepository.findByPollId(1L)).thenReturn(rows);
+
+        assertThat(voteCounter.getCounts(1L)).isEqualTo(Map.of(10L, 8L, 11L, 2L));
+        voteCounter.increment(1L, 10L);
+        assertThat(voteCounter.getCounts(1L)).isEqualTo(Map.of(10L, 9L, 11L, 2L));
+    }
+
+    @Test
+    void failedFlushKeepsDeltas() {
+        voteCounter.add(1L, 10L, 3);
+
+        try {
+            voteCounter.flush((sequence, deltas) -> {
+                throw new IllegalStateException("db down");
+            });
+        } catch (IllegalStateException expected) {
+            // 다음 flush에서 다시 시도
+        }
+
+        List<VoteCountDelta> written = new ArrayList<>();
+        voteCounter.flush((sequence, deltas) -> written.addAll(deltas));
+        assertThat(written).extracting(VoteCountDelta::getDelta).containsExactly(3L);
+    }
+
+    @Test
+    void evictIdleDropsOnlyFlushedTallies() {
+        voteCounter.increment(1L, 10L);
+        voteCounter.increment(2L, 20L);
+        voteCounter.flush((sequence, deltas) -> { });
+        voteCounter.increment(2L, 20L);
+
+        // 음수 idle이면 방금 쓴 카운터도 한가한 것으로 봄
+        assertThat(voteCounter.evictIdle(-60_000)).isEqualTo(1);
+        assertThat(voteCounter.pollIds()).containsExactly(2L);
+        assertThat(voteCounter.evictIdle(60_000)).isZero();
+    }
+
+    @Test
+    void releasedTallyReadsFreshRowsUntilFlushed() {
+        List<VoteCount> before = List.of(row(1L, 10L, 5));
+        List<VoteCount> after = List.of(row(1L, 10L, 9));
+        when(voteCountRepository.findByPollId(1L)).thenReturn(before);
+        voteCounter.add(1L, 10L, 2);
+        assertThat(voteCounter.getCounts(1L)).isEqualTo(Map.of(10L, 7L));
+
+        // 다른 노드로 넘어간 뒤에는 그 노드가 쓴 값(9)에 이 노드의 남은 증분(2)을 더함
+        assertThat(voteCounter.evict(List.of(1L))).isZero();
+        when(voteCountRepository.findByPollId(1L)).thenReturn(after);
+        assertThat(voteCounter.getCounts(1L)).isEqualTo(Map.of(10L, 11L));
+        assertThat(voteCounter.peekCounts(1L)).isNull();
+
+        voteCounter.flush((sequence, deltas) -> { });
+        assertThat(voteCounter.pollIds()).isEmpty();
+    }
+
+    private static VoteCount row(Long pollId, Long optionId, long voteCount) {
+        VoteCount row = mock(VoteCount.class);
+        when(row.getPollId()).thenReturn(pollId);
+        when(row.getOptionId()).thenReturn(optionId);
+        when(row.getVoteCount()).thenReturn(voteCount);
+        return row;
+    }
+}
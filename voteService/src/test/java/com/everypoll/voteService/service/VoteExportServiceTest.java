@@ -0,0 +1,82 @@
+package com.everypoll.voteService.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import com.everypoll.common.dto.PollSnapshotEvent;
+import com.everypoll.voteService.exception.PollExportForbiddenException;
+import com.everypoll.voteService.exception.VoteExportLimitException;
+import com.everypoll.voteService.repository.VoteJdbcRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// 커서는 mock으로 막아 두고, 동시에 쓰는 내보내기 수 제한만 확인
+class VoteExportServiceTest {
+
+    private final CountDownLatch streaming = new CountDownLatch(1);
+    private final CountDownLatch finish = new CountDownLatch(1);
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private VoteExportService voteExportService;
+
+    @BeforeEach
+    void setUp() {
+        VoteJdbcRepository voteJdbcRepository = mock(VoteJdbcRepository.class);
+        doAnswer(invocation -> {
+            streaming.countDown();
+            finish.await(10, TimeUnit.SECONDS);
+            return null;
+        }).when(voteJdbcRepository).streamVotes(anyLong(), any(RowCallbackHandler.class));
+
+        PollCatalog pollCatalog = new PollCatalog();
+        pollCatalog.apply(1L, PollSnapshotEvent.builder().pollId(1L).createdBy("7").optionIds(List.of(10L)).build());
+        pollCatalog.markReady();
+        voteExportService = new VoteExportService(voteJdbcRepository, pollCatalog, new ObjectMapper(), 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        finish.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void rejectsExportsOverConcurrentLimit() throws Exception {
+        Future<?> first = executor.submit(() -> {
+            voteExportService.export(1L, 7L, VoteExportFormat.CSV).writeTo(new ByteArrayOutputStream());
+            return null;
+        });
+        assertThat(streaming.await(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> voteExportService.export(1L, 7L, VoteExportFormat.NDJSON).writeTo(new ByteArrayOutputStream()))
+                .isInstanceOf(VoteExportLimitException.class);
+
+        // 앞의 내보내기가 끝나면 자리를 돌려받음
+        finish.countDown();
+        first.get(10, TimeUnit.SECONDS);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        voteExportService.export(1L, 7L, VoteExportFormat.CSV).writeTo(output);
+        assertThat(output.toString()).startsWith("voteId,optionId,userId,createdAt");
+    }
+
+    @Test
+    void rejectsNonOwnerBeforeStreaming() {
+        assertThatThrownBy(() -> voteExportService.export(1L, 8L, VoteExportFormat.CSV))
+                .isInstanceOf(PollExportForbiddenException.class);
+    }
+}
@@ -0,0 +1,92 @@
+package com.everypoll.voteService.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.everypoll.common.dto.VoteTallyEvent;
+import com.everypoll.voteService.dto.PollResultView;
+import com.everypoll.voteService.exception.VoteStreamLimitException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// 전체/클라이언트별 동시 구독 상한과 집계 이벤트 검증 (emitter는 MVC 없이 만들어 frame은 버퍼에 쌓임)
+class VoteStreamServiceTest {
+
+    private VoteStreamService voteStreamService;
+
+    @BeforeEach
+    void setUp() {
+        voteStreamService = new VoteStreamService(new ObjectMapper());
+        ReflectionTestUtils.setField(voteStreamService, "coalesceMs", 200L);
+        ReflectionTestUtils.setField(voteStreamService, "timeoutMs", 60_000L);
+        ReflectionTestUtils.setField(voteStreamService, "queueSize", 8);
+        ReflectionTestUtils.setField(voteStreamService, "senderThreads", 1);
+        ReflectionTestUtils.setField(voteStreamService, "maxSubscribers", 3);
+        ReflectionTestUtils.setField(voteStreamService, "maxSubscribersPerClient", 2);
+        voteStreamService.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        voteStreamService.shutdown();
+    }
+
+    @Test
+    void rejectsSubscribersOverPerClientLimit() {
+        voteStreamService.subscribe(1L, "ip:10.0.0.1", snapshot(1L));
+        voteStreamService.subscribe(2L, "ip:10.0.0.1", snapshot(2L));
+
+        assertThatThrownBy(() -> voteStreamService.subscribe(1L, "ip:10.0.0.1", snapshot(1L)))
+                .isInstanceOf(VoteStreamLimitException.class);
+        // 다른 클라이언트는 영향 없음
+        voteStreamService.subscribe(1L, "user:7", snapshot(1L));
+        assertThat(voteStreamService.subscriberCount(1L)).isEqualTo(2);
+    }
+
+    @Test
+    void rejectsSubscribersOverTotalLimit() {
+        voteStreamService.subscribe(1L, "ip:10.0.0.1", snapshot(1L));
+        voteStreamService.subscribe(1L, "ip:10.0.0.2", snapshot(1L));
+        voteStreamService.subscribe(1L, "ip:10.0.0.3", snapshot(1L));
+
+        assertThatThrownBy(() -> voteStreamService.subscribe(1L, "ip:10.0.0.4", snapshot(1L)))
+                .isInstanceOf(VoteStreamLimitException.class);
+        assertThat(voteStreamService.subscriberCount(1L)).isEqualTo(3);
+    }
+
+    // snapshot을 읽지 못한 구독은 자리를 돌려줌
+    @Test
+    void failedSnapshotReleasesSlot() {
+        Supplier<PollResultView> failing = () -> {
+            throw new IllegalStateException("db down");
+        };
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> voteStreamService.subscribe(1L, "ip:10.0.0.1", failing))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+
+        voteStreamService.subscribe(1L, "ip:10.0.0.1", snapshot(1L));
+        voteStreamService.subscribe(1L, "ip:10.0.0.1", snapshot(1L));
+        assertThat(voteStreamService.subscriberCount(1L)).isEqualTo(2);
+    }
+
+    // totals 없는 집계 이벤트는 보내는 쪽의 버그
+    @Test
+    void rejectsTallyWithoutTotals() {
+        voteStreamService.subscribe(1L, "ip:10.0.0.1", snapshot(1L));
+
+        assertThatThrownBy(() -> voteStreamService.onTally(VoteTallyEvent.builder().pollId(1L).deltas(Map.of(10L, 1L)).build()))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    private static Supplier<PollResultView> snapshot(Long pollId) {
+        return () -> PollResultView.of(pollId, Map.of(10L, 1L), System.currentTimeMillis());
+    }
+}
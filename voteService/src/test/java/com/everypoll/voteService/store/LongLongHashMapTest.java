@@ -0,0 +1,82 @@
+package com.everypoll.voteService.store;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class LongLongHashMapTest {
+
+    @Test
+    void putGetAndOverwrite() {
+        LongLongHashMap map = new LongLongHashMap(4);
+        map.put(1L, 10L);
+        map.put(2L, 20L);
+        map.put(1L, 11L);
+
+        assertThat(map.get(1L, -1)).isEqualTo(11L);
+        assertThat(map.get(2L, -1)).isEqualTo(20L);
+        assertThat(map.get(3L, -1)).isEqualTo(-1L);
+        assertThat(map.size()).isEqualTo(2);
+    }
+
+    @Test
+    void rejectsZeroKey() {
+        assertThatThrownBy(() -> new LongLongHashMap(4).put(0L, 1L))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void growsPastInitialCapacity() {
+        LongLongHashMap map = new LongLongHashMap(4);
+        long before = map.sizeInBytes();
+        for (long key = 1; key <= 10_000; key++) {
+            map.put(key, key * 2);
+        }
+
+        assertThat(map.size()).isEqualTo(10_000);
+        assertThat(map.sizeInBytes()).isGreaterThan(before);
+        for (long key = 1; key <= 10_000; key++) {
+            assertThat(map.get(key, -1)).isEqualTo(key * 2);
+        }
+    }
+
+    // 삭제 후 뒤쪽 항목을 당겨 채워도 같은 탐사열의 다른 키를 계속 찾을 수 있어야 함
+    @Test
+    void removeKeepsProbeChainsIntact() {
+        LongLongHashMap map = new LongLongHashMap(1 << 10);
+        Map<Long, Long> expected = new HashMap<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 200_000; i++) {
+            // 키 범위를 좁혀 충돌과 삭제가 자주 겹치게 함
+            long key = 1 + random.nextInt(2_000);
+            if (random.nextInt(3) == 0) {
+                assertThat(map.remove(key)).isEqualTo(expected.remove(key) != null);
+            } else {
+                map.put(key, i);
+                expected.put(key, (long) i);
+            }
+        }
+
+        assertThat(map.size()).isEqualTo(expected.size());
+        for (long key = 1; key <= 2_000; key++) {
+            assertThat(map.get(key, -1)).isEqualTo(expected.getOrDefault(key, -1L));
+        }
+    }
+
+    @Test
+    void clearEmptiesMap() {
+        LongLongHashMap map = new LongLongHashMap(4);
+        map.put(1L, 10L);
+        map.put(2L, 20L);
+        map.clear();
+
+        assertThat(map.size()).isZero();
+        assertThat(map.get(1L, -1)).isEqualTo(-1L);
+        assertThat(map.remove(2L)).isFalse();
+    }
+}
@@ -0,0 +1,109 @@
+package com.everypoll.voteService.store;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * 누적 투표 수가 늘어나도 재시작(복구) 시간이 거의 일정한지 확인하는 벤치마크.
+ * 기본 test 태스크에서는 빠지고 ./gradlew :voteService:benchmark 로 실행한다.
+ */
+@Tag("benchmark")
+class TallyJournalRecoveryBenchmark {
+
+    private static final int POLLS = 1_000;
+    private static final int OPTIONS = 4;
+    private static final int BATCH_SIZE = 500;
+    private static final int POLLS_PER_BATCH = 20;
+    private static final int FLUSH_EVERY_BATCHES = 200;
+    private static final int SEGMENT_BYTES = 1 << 20;
+    // 한 세그먼트(32768칸)를 넘지 않는 꼬리
+    private static final int TAIL_RECORDS = 20_000;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void recoveryTimeStaysFlatAsVotesGrow() throws Exception {
+        System.out.printf("%12s %12s %12s %14s%n", "votes", "records", "restart(ms)", "snapshot(KB)");
+        for (long votes : new long[] {100_000, 1_000_000, 10_000_000}) {
+            Path directory = Files.createDirectory(tempDir.resolve("votes-" + votes));
+            run(directory, votes);
+        }
+    }
+
+    private void run(Path directory, long votes) throws Exception {
+        TallyJournal writer = journal(directory);
+        writer.recover();
+
+        // 리스너처럼 묶음 단위로 (poll, option)별 증분을 합쳐 쓰고, flusher처럼 주기적으로 FLUSHED를 남김
+        SplittableRandom random = new SplittableRandom(votes);
+        Map<Long, long[]> expected = new HashMap<>();
+        Map<Long, Long> pending = new HashMap<>();
+        long records = 0;
+        long batches = votes / BATCH_SIZE;
+        for (long batch = 1; batch <= batches; batch++) {
+            int firstPoll = random.nextInt(POLLS);
+            Map<Long, Long> tally = new HashMap<>();
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                long pollId = (firstPoll + random.nextInt(POLLS_PER_BATCH)) % POLLS + 1;
+                long optionId = pollId * OPTIONS + random.nextInt(OPTIONS);
+                tally.merge(optionId, 1L, Long::sum);
+            }
+            for (Map.Entry<Long, Long> entry : tally.entrySet()) {
+                long optionId = entry.getKey();
+                writer.append(TallyRecord.INCREMENT, optionId / OPTIONS, optionId, entry.getValue());
+                pending.merge(optionId, entry.getValue(), Long::sum);
+                expected.computeIfAbsent(optionId, id -> new long[2])[1] += entry.getValue();
+                records++;
+            }
+            if (batch % FLUSH_EVERY_BATCHES == 0) {
+                for (Map.Entry<Long, Long> entry : pending.entrySet()) {
+                    long optionId = entry.getKey();
+                    writer.append(TallyRecord.FLUSHED, optionId / OPTIONS, optionId, entry.getValue());
+                    long[] counts = expected.get(optionId);
+                    counts[0] += entry.getValue();
+                    counts[1] -= entry.getValue();
+                    records++;
+                }
+                pending.clear();
+            }
+        }
+        writer.checkpoint();
+
+        // 체크포인트 뒤의 꼬리는 스냅샷에 접지 않고, 종료 절차 없이 죽은 것처럼 세그먼트에만 남김
+        for (int i = 0; i < TAIL_RECORDS; i++) {
+            long optionId = (random.nextInt(POLLS) + 1L) * OPTIONS + random.nextInt(OPTIONS);
+            writer.append(TallyRecord.INCREMENT, optionId / OPTIONS, optionId, 1);
+            expected.computeIfAbsent(optionId, id -> new long[2])[1] += 1;
+            records++;
+        }
+        writer.halt();
+
+        long startedAt = System.nanoTime();
+        TallyState state = journal(directory).recover();
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        assertEquals(expected.size(), state.optionCount());
+        state.getPolls().forEach((pollId, poll) -> poll.getOptions().forEach((optionId, option) -> {
+            long[] counts = expected.get(optionId);
+            assertEquals(counts[0], option.getPersisted());
+            assertEquals(counts[1], option.getPending());
+        }));
+        System.out.printf("%12d %12d %12d %14d%n", votes, records, elapsedMs,
+                Files.size(directory.resolve("tally.snapshot")) / 1024);
+    }
+
+    private TallyJournal journal(Path directory) {
+        return new TallyJournal(true, directory.toString(), SEGMENT_BYTES, TimeUnit.HOURS.toMillis(1), TimeUnit.HOURS.toMillis(1));
+    }
+}
@@ -0,0 +1,127 @@
+package com.everypoll.voteService.store;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+// 종료 없이 버린 저널(프로세스가 죽은 경우, halt로 백그라운드 접기만 멈춤)을 새 저널로 다시 열어 상태가 되살아나는지 확인
+class TallyJournalTest {
+
+    // 레코드 128개짜리 세그먼트, 몇백 건만 써도 세그먼트가 넘어감
+    private static final int SEGMENT_BYTES = TallySegment.RECORD_SIZE * 128;
+    private static final long NEVER = 3_600_000;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void replaysSegmentsAfterCrash() throws Exception {
+        TallyJournal crashed = journal();
+        crashed.recover();
+        crashed.append(TallyRecord.LOADED, 1, 0, 0);
+        crashed.append(TallyRecord.BASE, 1, 10, 7);
+        for (int i = 0; i < 300; i++) {
+            crashed.append(TallyRecord.INCREMENT, 1, 10 + i % 2, 1);
+        }
+        crashed.append(TallyRecord.INCREMENT, 2, 20, 4);
+        crashed.append(TallyRecord.EVICTED, 2, 0, 0);
+        crashed.halt();
+
+        TallyState state = journal().recover();
+
+        assertThat(state.getPolls()).containsOnlyKeys(1L);
+        TallyState.PollState poll = state.getPolls().get(1L);
+        assertThat(poll.isLoaded()).isTrue();
+        assertThat(poll.getOptions().get(10L).getPersisted()).isEqualTo(7);
+        assertThat(poll.getOptions().get(10L).getPending()).isEqualTo(150);
+        assertThat(poll.getOptions().get(11L).getPending()).isEqualTo(150);
+    }
+
+    @Test
+    void committedFlushMovesPendingToPersisted() throws Exception {
+        TallyJournal crashed = journal();
+        crashed.recover();
+        crashed.append(TallyRecord.INCREMENT, 1, 10, 5);
+        crashed.append(TallyRecord.FLUSH_BEGIN, 0, 0, 1);
+        crashed.append(TallyRecord.FLUSHED, 1, 10, 5);
+        crashed.append(TallyRecord.INCREMENT, 1, 10, 2);
+        crashed.append(TallyRecord.FLUSH_COMMIT, 0, 0, 1);
+        crashed.halt();
+
+        TallyState state = journal().recover();
+
+        assertThat(state.getOpenFlushes()).isEmpty();
+        assertThat(state.getFlushSequence()).isEqualTo(1);
+        TallyState.OptionState option = state.getPolls().get(1L).getOptions().get(10L);
+        assertThat(option.getPersisted()).isEqualTo(5);
+        assertThat(option.getPending()).isEqualTo(2);
+    }
+
+    @Test
+    void unfinishedFlushSurvivesSnapshotUntilResolved() throws Exception {
+        TallyJournal crashed = journal();
+        crashed.recover();
+        crashed.append(TallyRecord.INCREMENT, 1, 10, 5);
+        crashed.append(TallyRecord.INCREMENT, 1, 11, 3);
+        crashed.append(TallyRecord.FLUSH_BEGIN, 0, 0, 1);
+        crashed.append(TallyRecord.FLUSHED, 1, 10, 5);
+        // 묶음이 끝나기 전에 스냅샷으로 접혀도 나머지 FLUSHED가 같은 묶음에 붙어야 함
+        crashed.checkpoint();
+        crashed.append(TallyRecord.FLUSHED, 1, 11, 3);
+        crashed.halt();
+
+        TallyState committed = journal().recover();
+        assertThat(committed.getOpenFlushes()).containsOnlyKeys(1L);
+        assertThat(committed.getOpenFlushes().get(1L)).hasSize(2);
+        committed.resolveFlush(1, true);
+        assertThat(committed.getPolls().get(1L).getOptions().get(10L).getPending()).isZero();
+        assertThat(committed.getPolls().get(1L).getOptions().get(11L).getPersisted()).isEqualTo(3);
+    }
+
+    @Test
+    void abortedFlushKeepsPending() throws Exception {
+        TallyJournal crashed = journal();
+        crashed.recover();
+        crashed.append(TallyRecord.INCREMENT, 1, 10, 5);
+        crashed.append(TallyRecord.FLUSH_BEGIN, 0, 0, 1);
+        crashed.append(TallyRecord.FLUSHED, 1, 10, 5);
+        crashed.append(TallyRecord.FLUSH_ABORT, 0, 0, 1);
+        crashed.halt();
+
+        TallyState state = journal().recover();
+
+        assertThat(state.getOpenFlushes()).isEmpty();
+        TallyState.OptionState option = state.getPolls().get(1L).getOptions().get(10L);
+        assertThat(option.getPersisted()).isZero();
+        assertThat(option.getPending()).isEqualTo(5);
+    }
+
+    // FLUSHED는 FLUSH_BEGIN 뒤에만 기록되므로 묶음 밖에서 보이면 깨진 저널
+    @Test
+    void rejectsFlushedOutsideFlushGroup() {
+        TallyState state = new TallyState();
+
+        assertThatThrownBy(() -> state.visit(TallyRecord.FLUSHED, 1, 10, 5))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void keepsNodeIdAcrossRestarts() throws Exception {
+        TallyJournal first = journal();
+        first.recover();
+        first.shutdown();
+
+        TallyJournal second = journal();
+        second.recover();
+
+        assertThat(second.nodeId()).isNotBlank().isEqualTo(first.nodeId());
+    }
+
+    private TallyJournal journal() {
+        return new TallyJournal(true, directory.toString(), SEGMENT_BYTES, NEVER, NEVER);
+    }
+}